@@ -0,0 +1,35 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Entry stored by MyCache. Key, value and expiry are read without locking;
+ * every other field belongs to the eviction policy and is only touched while
+ * the cache's maintenance lock is held.
+ */
+final class CacheNode<K, V> {
+
+    final K key;
+    volatile V value;
+    volatile long expiresAt; // ticker time in nanos; unused when there is no TTL
+    int weight;
+    boolean alive = true;
+
+    // access-order links, owned by the eviction policy
+    CacheNode<K, V> prev;
+    CacheNode<K, V> next;
+
+    // write-order links, used for expireAfterWrite
+    CacheNode<K, V> writePrev;
+    CacheNode<K, V> writeNext;
+
+    int frequency; // LFU use count
+    byte queue;    // W-TinyLFU region
+
+    CacheNode(K key, V value, int weight) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+    }
+}
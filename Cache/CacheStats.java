@@ -0,0 +1,26 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Immutable snapshot of a MyCache's counters.
+ *
+ * @param hitCount        reads that found a live entry
+ * @param missCount       reads that found nothing or an expired entry
+ * @param evictionCount   entries removed to respect the size or weight bound
+ * @param expirationCount entries removed because their time-to-live ran out
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount) {
+
+    /** Total number of reads. */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /** Fraction of reads that were hits, or 1.0 if there were no reads. */
+    public double hitRate() {
+        long requests = requestCount();
+        return (requests == 0) ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Bookkeeping behind one eviction policy. MyCache calls these methods only
+ * while holding its maintenance lock, so implementations need no locking.
+ */
+interface EvictionStrategy<K, V> {
+
+    /** Starts tracking a new entry. */
+    void onAdd(CacheNode<K, V> node);
+
+    /** Records a read of a tracked entry. */
+    void onAccess(CacheNode<K, V> node);
+
+    /** Records an overwrite of a tracked entry whose weight was oldWeight. */
+    void onUpdate(CacheNode<K, V> node, int oldWeight);
+
+    /** Stops tracking an entry that was removed explicitly or expired. */
+    void onRemove(CacheNode<K, V> node);
+
+    /** Stops tracking and returns the entry that should be evicted, or null if there is none. */
+    CacheNode<K, V> evict();
+}
@@ -0,0 +1,89 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Count-min sketch of 4-bit counters packed sixteen to a long, used by
+ * W-TinyLFU to estimate how often a key has been seen recently. Each key maps
+ * to four counters in four different longs and its estimate is their minimum.
+ * After sampleSize increments every counter is halved, so old popularity fades.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_TABLE = 1 << 24;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /** Creates a sketch sized for roughly expectedEntries distinct hot keys. */
+    FrequencySketch(long expectedEntries) {
+        int capacity = 16;
+        while (capacity < expectedEntries && capacity < MAX_TABLE) {
+            capacity <<= 1;
+        }
+        table = new long[capacity];
+        tableMask = capacity - 1;
+        sampleSize = 10 * capacity;
+    }
+
+    /** Returns the estimated recent frequency of hash, from 0 to 15. */
+    int frequency(int hash) {
+        int h = spread(hash);
+        int start = (h & 3) << 2;
+        int min = 15;
+        for (int i = 0; i < 4; i++) {
+            int count = (int) ((table[indexOf(h, i)] >>> ((start + i) << 2)) & 0xfL);
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    /** Increments the counters for hash, aging the whole sketch once enough samples arrive. */
+    void increment(int hash) {
+        int h = spread(hash);
+        int start = (h & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(h, i), start + i);
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /** Increments counter j of table[i] unless it is saturated at 15. */
+    private boolean incrementAt(int i, int j) {
+        int offset = j << 2;
+        long mask = 0xfL << offset;
+        if ((table[i] & mask) != mask) {
+            table[i] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /** Halves every counter. */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int h, int row) {
+        long x = (h + SEEDS[row]) * SEEDS[row];
+        x += x >>> 32;
+        return (int) x & tableMask;
+    }
+
+    private static int spread(int h) {
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        return (h >>> 16) ^ h;
+    }
+}
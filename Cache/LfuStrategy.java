@@ -0,0 +1,108 @@
+package com.sophiapriola.dstoolkit.cache;
+
+import com.sophiapriola.dstoolkit.hashmap.IntObjectMap;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Least-frequently-used eviction in O(1). Entries sit in one deque per use
+ * count, kept in an IntObjectMap keyed by that count; ties within a count are
+ * broken by recency. The smallest non-empty count is tracked so eviction
+ * normally goes straight to its bucket. An entry being inserted is only
+ * evicted by its own write as a last resort; otherwise it would always be the
+ * victim once every other entry had been read at least once.
+ */
+final class LfuStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private final IntObjectMap<NodeDeque<K, V>> buckets = new IntObjectMap<>();
+    private int minFrequency;
+    private CacheNode<K, V> incoming; // added by the current write, null once another write starts
+
+    @Override
+    public void onAdd(CacheNode<K, V> node) {
+        node.frequency = 1;
+        bucket(1).addLast(node);
+        minFrequency = 1;
+        incoming = node;
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        int f = node.frequency;
+        NodeDeque<K, V> current = buckets.get(f);
+        if (f == Integer.MAX_VALUE) {
+            current.moveToBack(node); // saturated
+            return;
+        }
+        current.unlink(node);
+        if (current.isEmpty()) {
+            buckets.remove(f);
+            if (minFrequency == f) {
+                minFrequency = f + 1;
+            }
+        }
+        node.frequency = f + 1;
+        bucket(f + 1).addLast(node);
+    }
+
+    @Override
+    public void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        incoming = null;
+        onAccess(node);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        if (node == incoming) {
+            incoming = null;
+        }
+        NodeDeque<K, V> current = buckets.get(node.frequency);
+        current.unlink(node);
+        if (current.isEmpty()) {
+            buckets.remove(node.frequency); // minFrequency may now be stale; evict() repairs it
+        }
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        if (buckets.isEmpty()) {
+            return null;
+        }
+        if (buckets.get(minFrequency) == null) {
+            minFrequency = lowestFrequencyAbove(0);
+        }
+        int f = minFrequency;
+        NodeDeque<K, V> lowest = buckets.get(f);
+        if (lowest.peekFirst() == incoming && lowest.size() == 1 && buckets.size() > 1) {
+            f = lowestFrequencyAbove(f); // spare the new entry, take the least used of the rest
+            lowest = buckets.get(f);
+        }
+        CacheNode<K, V> victim = lowest.pollFirst();
+        if (lowest.isEmpty()) {
+            buckets.remove(f);
+        }
+        if (victim == incoming) {
+            incoming = null;
+        }
+        return victim;
+    }
+
+    /** Returns the smallest use count above floor that has a bucket; buckets must contain one. */
+    private int lowestFrequencyAbove(int floor) {
+        int[] min = {Integer.MAX_VALUE};
+        buckets.forEach((f, deque) -> {
+            if (f > floor) min[0] = Math.min(min[0], f);
+        });
+        return min[0];
+    }
+
+    private NodeDeque<K, V> bucket(int frequency) {
+        NodeDeque<K, V> deque = buckets.get(frequency);
+        if (deque == null) {
+            deque = new NodeDeque<>();
+            buckets.put(frequency, deque);
+        }
+        return deque;
+    }
+}
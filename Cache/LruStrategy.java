@@ -0,0 +1,37 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Least-recently-used eviction: one access-ordered deque, evicting from the front.
+ */
+final class LruStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private final NodeDeque<K, V> accessOrder = new NodeDeque<>();
+
+    @Override
+    public void onAdd(CacheNode<K, V> node) {
+        accessOrder.addLast(node);
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        accessOrder.moveToBack(node);
+    }
+
+    @Override
+    public void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        accessOrder.moveToBack(node);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        accessOrder.unlink(node);
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        return accessOrder.pollFirst();
+    }
+}
@@ -0,0 +1,450 @@
+package com.sophiapriola.dstoolkit.cache;
+
+import com.sophiapriola.dstoolkit.hashmap.MyConcurrentHashMap;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a bounded, thread-safe cache. Entries are indexed by
+ * a MyConcurrentHashMap, so get never takes a global lock: a hit is appended
+ * to one of several striped ReadBuffers and replayed into the eviction policy
+ * later. Writes, buffer drains, expiry and eviction run under a single
+ * maintenance lock that only touches intrusive linked lists, so it is held
+ * briefly. The cache is bounded by entry count or by total weight, evicts
+ * with LRU, LFU or W-TinyLFU, can expire entries a fixed time after they were
+ * written, and counts hits, misses, evictions and expirations.
+ *
+ * Create one with {@link #builder()}.
+ */
+public class MyCache<K, V> {
+
+    /** Eviction policy applied when the cache is over its bound. */
+    public enum Eviction {
+        /** Evict the least recently used entry. */
+        LRU,
+        /** Evict the least frequently used entry, oldest first on ties. */
+        LFU,
+        /** Admission-filtered segmented LRU; best hit rate on skewed workloads. */
+        W_TINY_LFU
+    }
+
+    /** Computes the weight of an entry for weight-bounded caches. */
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
+
+    private final MyConcurrentHashMap<K, CacheNode<K, V>> data;
+    private final EvictionStrategy<K, V> strategy;
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Weigher<? super K, ? super V> weigher;
+    private final long maximumWeight;
+    private final long expireAfterNanos; // 0 when entries never expire
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    // guarded by lock
+    private long weightedSize;
+    private CacheNode<K, V> writeHead; // oldest write, first to expire
+    private CacheNode<K, V> writeTail;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MyCache(Builder<K, V> builder) {
+        maximumWeight = builder.maximumWeight;
+        weigher = builder.weigher;
+        expireAfterNanos = builder.expireAfterNanos;
+        ticker = builder.ticker;
+
+        int stripes = 1;
+        while (stripes < Math.min(builder.concurrencyLevel, 64)) {
+            stripes <<= 1;
+        }
+        readBuffers = new ReadBuffer[stripes];
+        for (int i = 0; i < stripes; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+        data = new MyConcurrentHashMap<>(0, 0.75f, stripes);
+
+        switch (builder.eviction) {
+            case LRU -> strategy = new LruStrategy<>();
+            case LFU -> strategy = new LfuStrategy<>();
+            default -> strategy = new WindowTinyLfuStrategy<>(maximumWeight);
+        }
+    }
+
+    /** Returns a builder for a new cache. */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /** Returns the cached value for key, or null if it is absent or expired. Never blocks. */
+    public V get(K key) {
+        CacheNode<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node, ticker.getAsLong())) {
+            misses.increment();
+            tryMaintenance();
+            return null;
+        }
+        hits.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the cached value for key, loading and caching it with loader on
+     * a miss. The loader runs without holding any lock, so concurrent misses
+     * on the same key may each call it; the first result to be stored wins.
+     * A null result is returned but not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (loader == null) {
+            throw new IllegalArgumentException("loader cannot be null");
+        }
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            CacheNode<K, V> existing = data.get(key);
+            if (existing != null && !isExpired(existing, ticker.getAsLong())) {
+                return existing.value;
+            }
+            write(key, loaded);
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Caches value under key, replacing any previous value, and returns the previous value. */
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("key and value cannot be null");
+        }
+        lock.lock();
+        try {
+            return write(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for key and returns its value, or null if there was
+     * none. An entry that had already expired is dropped, counted as an
+     * expiration and reported as absent, as get would.
+     */
+    public V remove(K key) {
+        lock.lock();
+        try {
+            drainReadBuffers();
+            CacheNode<K, V> node = data.get(key);
+            if (node == null) {
+                return null;
+            }
+            boolean expired = isExpired(node, ticker.getAsLong());
+            V value = node.value;
+            strategy.onRemove(node);
+            discard(node);
+            if (expired) {
+                expirations.increment();
+                return null;
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes every entry. Counters are kept. */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            drainReadBuffers();
+            CacheNode<K, V> node;
+            while ((node = strategy.evict()) != null) {
+                discard(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Applies pending reads and removes expired entries now rather than on the next write. */
+    public void cleanUp() {
+        lock.lock();
+        try {
+            maintenance();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns the number of entries, which may include expired ones not yet cleaned up. */
+    public int size() {
+        return data.size();
+    }
+
+    /** Returns the total weight of all entries (the entry count for size-bounded caches). */
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns a snapshot of the hit, miss, eviction and expiration counters. */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    /** Inserts or replaces an entry, then runs maintenance; caller holds the lock. */
+    private V write(K key, V value) {
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight cannot be negative");
+        }
+        long now = ticker.getAsLong();
+        drainReadBuffers();
+
+        V old = null;
+        CacheNode<K, V> node = data.get(key);
+        if (node != null) {
+            if (isExpired(node, now)) {
+                expirations.increment(); // the old value expired; it is replaced rather than returned
+            } else {
+                old = node.value;
+            }
+            int oldWeight = node.weight;
+            node.value = value;
+            node.weight = weight;
+            weightedSize += weight - oldWeight;
+            strategy.onUpdate(node, oldWeight);
+            if (expireAfterNanos > 0) {
+                node.expiresAt = now + expireAfterNanos;
+                unlinkWrite(node);
+                linkWrite(node);
+            }
+        } else {
+            node = new CacheNode<>(key, value, weight);
+            if (expireAfterNanos > 0) {
+                node.expiresAt = now + expireAfterNanos;
+                linkWrite(node);
+            }
+            data.put(key, node);
+            weightedSize += weight;
+            strategy.onAdd(node);
+        }
+
+        expire(now);
+        evictToBound();
+        return old;
+    }
+
+    /** Records a hit for the policy without taking the lock unless the buffer is full. */
+    private void recordRead(CacheNode<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[stripeIndex()];
+        if (!buffer.offer(node)) {
+            tryMaintenance();
+        }
+    }
+
+    /** Runs maintenance if no other thread is already doing so. */
+    private void tryMaintenance() {
+        if (lock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void maintenance() {
+        drainReadBuffers();
+        expire(ticker.getAsLong());
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(node -> {
+                if (node.alive) {
+                    strategy.onAccess(node);
+                }
+            });
+        }
+    }
+
+    /** Removes entries from the oldest write onwards until one has not yet expired. */
+    private void expire(long now) {
+        while (writeHead != null && isExpired(writeHead, now)) {
+            CacheNode<K, V> node = writeHead;
+            strategy.onRemove(node);
+            discard(node);
+            expirations.increment();
+        }
+    }
+
+    private void evictToBound() {
+        while (weightedSize > maximumWeight) {
+            CacheNode<K, V> victim = strategy.evict();
+            if (victim == null) {
+                break;
+            }
+            discard(victim);
+            evictions.increment();
+        }
+    }
+
+    /** Drops a node the strategy no longer tracks from the index and the write order. */
+    private void discard(CacheNode<K, V> node) {
+        node.alive = false;
+        data.remove(node.key);
+        weightedSize -= node.weight;
+        if (expireAfterNanos > 0) {
+            unlinkWrite(node);
+        }
+    }
+
+    private void linkWrite(CacheNode<K, V> node) {
+        node.writePrev = writeTail;
+        node.writeNext = null;
+        if (writeTail == null) {
+            writeHead = node;
+        } else {
+            writeTail.writeNext = node;
+        }
+        writeTail = node;
+    }
+
+    private void unlinkWrite(CacheNode<K, V> node) {
+        CacheNode<K, V> prev = node.writePrev;
+        CacheNode<K, V> next = node.writeNext;
+        if (prev == null) {
+            writeHead = next;
+        } else {
+            prev.writeNext = next;
+        }
+        if (next == null) {
+            writeTail = prev;
+        } else {
+            next.writePrev = prev;
+        }
+        node.writePrev = null;
+        node.writeNext = null;
+    }
+
+    private boolean isExpired(CacheNode<K, V> node, long now) {
+        return expireAfterNanos > 0 && node.expiresAt - now <= 0;
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) (id * 0x9E3779B97F4A7C15L >>> 32) & (readBuffers.length - 1);
+    }
+
+    /**
+     * Configures a MyCache. Exactly one of maximumSize or maximumWeight must be
+     * set; everything else is optional.
+     */
+    public static final class Builder<K, V> {
+
+        private Eviction eviction = Eviction.LRU;
+        private long maximumWeight = -1;
+        private Weigher<? super K, ? super V> weigher;
+        private long expireAfterNanos;
+        private LongSupplier ticker = System::nanoTime;
+        private int concurrencyLevel = Runtime.getRuntime().availableProcessors();
+
+        private Builder() {
+        }
+
+        /** Sets the eviction policy (LRU by default). */
+        public Builder<K, V> eviction(Eviction eviction) {
+            if (eviction == null) {
+                throw new IllegalArgumentException("eviction cannot be null");
+            }
+            this.eviction = eviction;
+            return this;
+        }
+
+        /** Bounds the cache to at most maximumSize entries. */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            return maximumWeight(maximumSize, (k, v) -> 1);
+        }
+
+        /** Bounds the cache so the weights of all entries add up to at most maximumWeight. */
+        public Builder<K, V> maximumWeight(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+            if (this.maximumWeight >= 0) {
+                throw new IllegalStateException("size or weight bound already set");
+            }
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximum cannot be negative");
+            }
+            if (weigher == null) {
+                throw new IllegalArgumentException("weigher cannot be null");
+            }
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /** Expires each entry this long after it was created or last replaced. */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("duration must be positive");
+            }
+            this.expireAfterNanos = duration.toNanos();
+            return this;
+        }
+
+        /** Sets the nanosecond time source used for expiry; tests can pass a fake clock. */
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            if (ticker == null) {
+                throw new IllegalArgumentException("ticker cannot be null");
+            }
+            this.ticker = ticker;
+            return this;
+        }
+
+        /** Sets the expected number of concurrent readers, which sizes the read buffers. */
+        public Builder<K, V> concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0) {
+                throw new IllegalArgumentException("concurrencyLevel must be positive");
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /** Creates the cache. */
+        public MyCache<K, V> build() {
+            if (maximumWeight < 0) {
+                throw new IllegalStateException("maximumSize or maximumWeight must be set");
+            }
+            return new MyCache<>(this);
+        }
+    }
+}
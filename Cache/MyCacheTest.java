@@ -0,0 +1,273 @@
+package com.sophiapriola.dstoolkit.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for MyCache and its eviction policies
+ */
+class MyCacheTest {
+
+    @Test
+    void builder_requiresExactlyOneBound() {
+        assertThrows(IllegalStateException.class, () -> MyCache.<String, Integer>builder().build());
+        assertThrows(IllegalStateException.class,
+                () -> MyCache.<String, Integer>builder().maximumSize(10).maximumWeight(10, (k, v) -> v));
+        assertThrows(IllegalArgumentException.class, () -> MyCache.<String, Integer>builder().maximumSize(-1));
+    }
+
+    @Test
+    void put_andGet_work_andCountHitsAndMisses() {
+        MyCache<String, Integer> cache = MyCache.<String, Integer>builder().maximumSize(10).build();
+        assertNull(cache.put("a", 1));
+        assertEquals(1, cache.put("a", 2));
+
+        assertEquals(2, cache.get("a"));
+        assertNull(cache.get("b"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void lru_evictsLeastRecentlyUsed() {
+        MyCache<Integer, String> cache = MyCache.<Integer, String>builder()
+                .eviction(MyCache.Eviction.LRU).maximumSize(3).build();
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1); // 2 is now the oldest
+        cache.cleanUp();
+        cache.put(4, "d");
+
+        assertNull(cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void lfu_evictsLeastFrequentlyUsed() {
+        MyCache<Integer, String> cache = MyCache.<Integer, String>builder()
+                .eviction(MyCache.Eviction.LFU).maximumSize(3).build();
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        for (int i = 0; i < 3; i++) {
+            cache.get(1);
+            cache.get(3);
+        }
+        cache.get(2);
+        cache.cleanUp();
+        cache.put(4, "d"); // 2 has the fewest reads, so it goes and 4 stays
+
+        assertNull(cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals("c", cache.get(3));
+        assertEquals("d", cache.get(4));
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void lfu_keepsNewKeyWhenEveryResidentWasReadMoreOften() {
+        MyCache<Integer, String> cache = MyCache.<Integer, String>builder()
+                .eviction(MyCache.Eviction.LFU).maximumSize(3).build();
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        for (int i = 0; i < 3; i++) {
+            cache.get(1);
+            cache.get(2);
+            cache.get(3);
+        }
+        cache.cleanUp();
+
+        cache.put(4, "d");
+        assertEquals("d", cache.get(4)); // the new key survives its own insertion
+        assertEquals(3, cache.size());
+        assertNull(cache.get(1)); // oldest of the least used residents
+
+        cache.cleanUp();
+        cache.put(5, "e"); // 4 was read once, fewer times than 2 and 3
+        assertEquals("e", cache.get(5));
+        assertNull(cache.get(4));
+        assertEquals("b", cache.get(2));
+        assertEquals("c", cache.get(3));
+    }
+
+    @Test
+    void wTinyLfu_duelsTheAdmittedEntry_notAProtectedDemotion() {
+        // maximum weight 100: a window of 1 and a protected segment of 79
+        WindowTinyLfuStrategy<Integer, Integer> policy = new WindowTinyLfuStrategy<>(100);
+        List<CacheNode<Integer, Integer>> nodes = new ArrayList<>();
+        for (int k = 0; k <= 84; k++) nodes.add(new CacheNode<>(k, k, 1));
+
+        for (int k = 1; k <= 83; k++) policy.onAdd(nodes.get(k)); // 1..82 in probation, 83 in the window
+        for (int k = 3; k <= 81; k++) policy.onAccess(nodes.get(k)); // fills protected; probation is 1, 2, 82
+
+        // in one cycle: 84 admits 83 from the window, then promoting 2 demotes 3 to the probation tail
+        policy.onAdd(nodes.get(84));
+        policy.onAccess(nodes.get(2));
+
+        // 83 (seen once) loses to the victim 1 (seen once); 3 was never a candidate
+        assertSame(nodes.get(83), policy.evict());
+        assertSame(nodes.get(1), policy.evict());
+    }
+
+    @Test
+    void wTinyLfu_keepsHotKeysThroughAScan() {
+        MyCache<Integer, Integer> cache = MyCache.<Integer, Integer>builder()
+                .eviction(MyCache.Eviction.W_TINY_LFU).maximumSize(100).build();
+        for (int round = 0; round < 20; round++) {
+            for (int k = 0; k < 50; k++) {
+                if (cache.get(k) == null) cache.put(k, k);
+            }
+        }
+        // a one-pass scan of cold keys would flush an LRU cache completely
+        for (int k = 1_000; k < 2_000; k++) cache.put(k, k);
+
+        int hotSurvivors = 0;
+        for (int k = 0; k < 50; k++) if (cache.get(k) != null) hotSurvivors++;
+        assertTrue(hotSurvivors >= 40, "only " + hotSurvivors + " hot keys survived");
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    void maximumWeight_boundsTotalWeight() {
+        MyCache<String, String> cache = MyCache.<String, String>builder()
+                .maximumWeight(10, (k, v) -> v.length()).build();
+        cache.put("a", "xxxx");
+        cache.put("b", "xxxx");
+        assertEquals(8, cache.weightedSize());
+
+        cache.put("c", "xxxx");
+        assertTrue(cache.weightedSize() <= 10);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void expireAfterWrite_usesTicker() {
+        AtomicLong now = new AtomicLong();
+        MyCache<String, Integer> cache = MyCache.<String, Integer>builder()
+                .maximumSize(10).expireAfterWrite(Duration.ofSeconds(5)).ticker(now::get).build();
+        cache.put("a", 1);
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+        cache.put("b", 2);
+
+        assertEquals(1, cache.get("a"));
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("b"));
+
+        cache.cleanUp();
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.stats().expirationCount());
+    }
+
+    @Test
+    void remove_ofExpiredEntry_returnsNullAndCountsExpiration() {
+        AtomicLong now = new AtomicLong();
+        MyCache<String, Integer> cache = MyCache.<String, Integer>builder()
+                .maximumSize(10).expireAfterWrite(Duration.ofSeconds(5)).ticker(now::get).build();
+        cache.put("a", 1);
+        cache.put("b", 2);
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertNull(cache.remove("a"));
+        assertEquals(1, cache.stats().expirationCount());
+        assertEquals(1, cache.size());
+        assertNull(cache.remove("a"));
+        assertEquals(1, cache.stats().expirationCount());
+    }
+
+    @Test
+    void put_overExpiredEntry_returnsNullAndCountsExpiration() {
+        AtomicLong now = new AtomicLong();
+        MyCache<String, Integer> cache = MyCache.<String, Integer>builder()
+                .maximumSize(10).expireAfterWrite(Duration.ofSeconds(5)).ticker(now::get).build();
+        cache.put("a", 1);
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertNull(cache.put("a", 2));
+        assertEquals(1, cache.stats().expirationCount());
+        assertEquals(2, cache.get("a"));
+        assertEquals(2, cache.put("a", 3)); // the new value is live, so it is returned
+        assertEquals(1, cache.stats().expirationCount());
+    }
+
+    @Test
+    void getWithLoader_cachesLoadedValue() {
+        MyCache<Integer, String> cache = MyCache.<Integer, String>builder().maximumSize(10).build();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1, k -> {
+            loads.incrementAndGet();
+            return "v" + k;
+        }));
+        assertEquals("v1", cache.get(1, k -> "other"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void remove_andInvalidateAll_work() {
+        MyCache<Integer, Integer> cache = MyCache.<Integer, Integer>builder()
+                .eviction(MyCache.Eviction.W_TINY_LFU).maximumSize(10).build();
+        for (int i = 0; i < 5; i++) cache.put(i, i);
+
+        assertEquals(3, cache.remove(3));
+        assertNull(cache.remove(3));
+        assertEquals(4, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+    }
+
+    @Test
+    void concurrentReadsAndWrites_stayWithinBound() throws Exception {
+        for (MyCache.Eviction eviction : MyCache.Eviction.values()) {
+            MyCache<Integer, Integer> cache = MyCache.<Integer, Integer>builder()
+                    .eviction(eviction).maximumSize(500).concurrencyLevel(8).build();
+            List<Thread> threads = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 20_000; i++) {
+                            int key = (i * 31 + seed) % 2_000;
+                            Integer v = cache.get(key);
+                            if (v == null) cache.put(key, key);
+                            else assertEquals(key, v);
+                        }
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) thread.join();
+
+            assertTrue(failures.isEmpty(), eviction + ": " + failures);
+            cache.cleanUp();
+            assertTrue(cache.size() <= 500, eviction + " size " + cache.size());
+            assertEquals(cache.size(), cache.weightedSize());
+        }
+    }
+}
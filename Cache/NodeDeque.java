@@ -0,0 +1,87 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Doubly linked list in the style of MyLinkedList, except that the links live
+ * in the CacheNode itself. That makes unlinking and moving an entry O(1)
+ * given the node, which is what every eviction policy needs.
+ */
+final class NodeDeque<K, V> {
+
+    private CacheNode<K, V> head;
+    private CacheNode<K, V> tail;
+    private int size;
+
+    /** Returns the number of nodes in the deque */
+    int size() {
+        return size;
+    }
+
+    /** Returns true if the deque is empty */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns the least recently added or moved node, or null if empty */
+    CacheNode<K, V> peekFirst() {
+        return head;
+    }
+
+    /** Returns the most recently added or moved node, or null if empty */
+    CacheNode<K, V> peekLast() {
+        return tail;
+    }
+
+    /** Adds a node that is in no deque to the end */
+    void addLast(CacheNode<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+    }
+
+    /** Removes and returns the first node, or null if empty */
+    CacheNode<K, V> pollFirst() {
+        CacheNode<K, V> first = head;
+        if (first != null) {
+            unlink(first);
+        }
+        return first;
+    }
+
+    /** Moves a node already in this deque to the end */
+    void moveToBack(CacheNode<K, V> node) {
+        if (node != tail) {
+            unlink(node);
+            addLast(node);
+        }
+    }
+
+    /** Removes a node that is in this deque */
+    void unlink(CacheNode<K, V> node) {
+        CacheNode<K, V> prev = node.prev;
+        CacheNode<K, V> next = node.next;
+
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+}
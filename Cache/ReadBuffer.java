@@ -0,0 +1,53 @@
+package com.sophiapriola.dstoolkit.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Small lossy ring buffer of recent reads. Readers append with one CAS and
+ * never block; the maintenance thread replays the buffer into the eviction
+ * policy under the cache lock. When the buffer is full or a CAS loses a race
+ * the read is simply not recorded, which only makes the policy slightly less
+ * precise.
+ */
+final class ReadBuffer<K, V> {
+
+    static final int SIZE = 16;
+    private static final int MASK = SIZE - 1;
+
+    private final AtomicReferenceArray<CacheNode<K, V>> slots = new AtomicReferenceArray<>(SIZE);
+    private final AtomicLong writeCount = new AtomicLong();
+    private volatile long readCount; // only written by the drainer
+
+    /** Records a read; returns false if the buffer is full and should be drained. */
+    boolean offer(CacheNode<K, V> node) {
+        long w = writeCount.get();
+        if (w - readCount >= SIZE) {
+            return false;
+        }
+        if (writeCount.compareAndSet(w, w + 1)) {
+            slots.lazySet((int) w & MASK, node);
+        }
+        return true;
+    }
+
+    /** Hands every published read to consumer; caller holds the cache lock. */
+    void drainTo(Consumer<CacheNode<K, V>> consumer) {
+        long w = writeCount.get();
+        long r = readCount;
+        for (; r < w; r++) {
+            int i = (int) r & MASK;
+            CacheNode<K, V> node = slots.get(i);
+            if (node == null) {
+                break; // slot claimed but not yet written; pick it up next time
+            }
+            slots.lazySet(i, null);
+            consumer.accept(node);
+        }
+        readCount = r;
+    }
+}
@@ -0,0 +1,147 @@
+package com.sophiapriola.dstoolkit.cache;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * W-TinyLFU eviction. New entries enter a small LRU window (1% of the
+ * budget); entries pushed out of the window join the probation segment of a
+ * segmented LRU, and a second access promotes them to the protected segment
+ * (80% of the main space). When space is needed, the entry most recently
+ * admitted from the window (the candidate) competes with the oldest probation
+ * entry (the victim) and the one the FrequencySketch thinks is used less is
+ * evicted. The candidate is tracked explicitly because entries demoted from
+ * protected also join the probation tail. This keeps one-hit wonders from
+ * flushing popular keys, as pure LRU would.
+ */
+final class WindowTinyLfuStrategy<K, V> implements EvictionStrategy<K, V> {
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+
+    private final NodeDeque<K, V> window = new NodeDeque<>();
+    private final NodeDeque<K, V> probation = new NodeDeque<>();
+    private final NodeDeque<K, V> protectedQueue = new NodeDeque<>();
+    private final FrequencySketch sketch;
+    private final long windowMax;
+    private final long protectedMax;
+    private long windowWeight;
+    private long protectedWeight;
+    // last entry admitted from the window; null once it loses a duel or leaves probation
+    private CacheNode<K, V> candidate;
+
+    WindowTinyLfuStrategy(long maximumWeight) {
+        windowMax = Math.max(1, maximumWeight / 100);
+        protectedMax = (maximumWeight - windowMax) * 8 / 10;
+        sketch = new FrequencySketch(maximumWeight);
+    }
+
+    @Override
+    public void onAdd(CacheNode<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        node.queue = WINDOW;
+        window.addLast(node);
+        windowWeight += node.weight;
+
+        // overflow from the window waits in probation for admission
+        while (windowWeight > windowMax && window.size() > 1) {
+            CacheNode<K, V> oldest = window.pollFirst();
+            windowWeight -= oldest.weight;
+            oldest.queue = PROBATION;
+            probation.addLast(oldest);
+            candidate = oldest;
+        }
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                if (node == candidate) {
+                    candidate = null;
+                }
+                probation.unlink(node);
+                promote(node);
+            }
+            default -> protectedQueue.moveToBack(node);
+        }
+    }
+
+    @Override
+    public void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        int delta = node.weight - oldWeight;
+        if (node.queue == WINDOW) {
+            windowWeight += delta;
+        } else if (node.queue == PROTECTED) {
+            protectedWeight += delta;
+        }
+        onAccess(node);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.unlink(node);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                if (node == candidate) {
+                    candidate = null;
+                }
+                probation.unlink(node);
+            }
+            default -> {
+                protectedQueue.unlink(node);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        CacheNode<K, V> victim = probation.peekFirst();
+        if (candidate != null) {
+            if (candidate != victim
+                    && sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                probation.unlink(victim);
+                return victim; // the candidate stays, to face the next victim if more space is needed
+            }
+            CacheNode<K, V> loser = candidate;
+            candidate = null;
+            probation.unlink(loser);
+            return loser;
+        }
+        if (victim != null) {
+            probation.unlink(victim);
+            return victim;
+        }
+        if (!protectedQueue.isEmpty()) {
+            CacheNode<K, V> oldest = protectedQueue.pollFirst();
+            protectedWeight -= oldest.weight;
+            return oldest;
+        }
+        CacheNode<K, V> oldest = window.pollFirst();
+        if (oldest != null) {
+            windowWeight -= oldest.weight;
+        }
+        return oldest;
+    }
+
+    /** Moves a probation entry into protected, demoting the oldest protected entries if it overflows. */
+    private void promote(CacheNode<K, V> node) {
+        node.queue = PROTECTED;
+        protectedQueue.addLast(node);
+        protectedWeight += node.weight;
+
+        while (protectedWeight > protectedMax && protectedQueue.size() > 1) {
+            CacheNode<K, V> demoted = protectedQueue.pollFirst();
+            protectedWeight -= demoted.weight;
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+}
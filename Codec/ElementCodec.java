@@ -0,0 +1,87 @@
+package com.sophiapriola.dstoolkit.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Converts values to and from bytes. Shared by the structures that store
+ * values outside the Java heap or stream them to snapshots; both keep each
+ * value's length beside it, so read always sees exactly the bytes write
+ * produced.
+ */
+public interface ElementCodec<T> {
+
+    /** Number of bytes write will produce for value. */
+    int sizeOf(T value);
+
+    /** Writes exactly sizeOf(value) bytes starting at out's position. */
+    void write(T value, ByteBuffer out);
+
+    /** Reads a value from all remaining bytes of in. */
+    T read(ByteBuffer in);
+
+    /** Fixed 4-byte big-endian ints. */
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        public int sizeOf(Integer value) {
+            return Integer.BYTES;
+        }
+
+        public void write(Integer value, ByteBuffer out) {
+            out.putInt(value);
+        }
+
+        public Integer read(ByteBuffer in) {
+            return in.getInt();
+        }
+    };
+
+    /** Fixed 8-byte big-endian longs. */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        public int sizeOf(Long value) {
+            return Long.BYTES;
+        }
+
+        public void write(Long value, ByteBuffer out) {
+            out.putLong(value);
+        }
+
+        public Long read(ByteBuffer in) {
+            return in.getLong();
+        }
+    };
+
+    /** Raw byte arrays, stored as-is. */
+    ElementCodec<byte[]> BYTES = new ElementCodec<>() {
+        public int sizeOf(byte[] value) {
+            return value.length;
+        }
+
+        public void write(byte[] value, ByteBuffer out) {
+            out.put(value);
+        }
+
+        public byte[] read(ByteBuffer in) {
+            byte[] bytes = new byte[in.remaining()];
+            in.get(bytes);
+            return bytes;
+        }
+    };
+
+    /** Strings as UTF-8 bytes. */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+        public int sizeOf(String value) {
+            return value.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        public void write(String value, ByteBuffer out) {
+            out.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public String read(ByteBuffer in) {
+            return StandardCharsets.UTF_8.decode(in).toString();
+        }
+    };
+}
@@ -0,0 +1,74 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Sizing and hashing helpers shared by the open-addressing maps and sets in
+ * this package. All tables are power-of-two sized and pick a home slot from
+ * the top bits of a Fibonacci-hashed value: slot = mix(key) >>> shift.
+ */
+final class HashUtil {
+
+    static final int DEFAULT_EXPECTED_SIZE = 12;
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /** Fibonacci hashing constants (2^32 and 2^64 divided by the golden ratio). */
+    private static final int GOLDEN = 0x9E3779B9;
+    private static final long GOLDEN_64 = 0x9E3779B97F4A7C15L;
+
+    private HashUtil() {
+    }
+
+    /** Spreads an int so that its high bits depend on every input bit. */
+    static int mix(int key) {
+        return key * GOLDEN;
+    }
+
+    /** Spreads a long down to an int whose high bits depend on every input bit. */
+    static int mix(long key) {
+        return (int) ((key * GOLDEN_64) >>> 32);
+    }
+
+    /** Shift that maps a mixed hash onto a table of the given power-of-two capacity. */
+    static int shiftFor(int capacity) {
+        return 32 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /** Number of entries a table of this capacity may hold before it grows. */
+    static int thresholdFor(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    /** Validates constructor arguments shared by every table in the package. */
+    static void checkArguments(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative");
+        }
+        if (!(loadFactor > 0f && loadFactor < 1f)) {
+            throw new IllegalArgumentException("loadFactor must be between 0 and 1");
+        }
+    }
+
+    /** Smallest power-of-two capacity that holds expectedSize entries under loadFactor. */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        double needed = Math.ceil(expectedSize / (double) loadFactor);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("expectedSize is too large");
+        }
+        int capacity = 2;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /** Returns the doubled capacity, or throws if the table is already at its maximum. */
+    static int grow(int capacity, String owner) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException(owner + " cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        return capacity << 1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive IntHashSet; the contract it shares with the
+ * other primitive tables is covered by KeyTableContractTest
+ */
+class IntHashSetTest {
+
+    @Test
+    void add_reportsWhetherValueWasNew() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertFalse(set.add(Integer.MIN_VALUE));
+        assertTrue(set.add(-1));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void remove_reportsWhetherValueWasPresent() {
+        IntHashSet set = new IntHashSet();
+        assertFalse(set.remove(0));
+        set.add(0);
+        set.add(9);
+
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.remove(9));
+        assertFalse(set.remove(9));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void forEach_visitsEachElementOnce() {
+        IntHashSet set = new IntHashSet(0);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) set.add(i);
+        }
+
+        int[] countAndSum = new int[2];
+        set.forEach(v -> {
+            countAndSum[0]++;
+            countAndSum[1] += v;
+        });
+        assertEquals(100, countAndSum[0]);
+        assertEquals(4950, countAndSum[1]);
+    }
+}
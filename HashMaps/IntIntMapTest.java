@@ -0,0 +1,110 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive IntIntMap
+ */
+class IntIntMapTest {
+
+    @Test
+    void newMap_startsEmpty() {
+        IntIntMap map = new IntIntMap();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(5));
+    }
+
+    @Test
+    void missingKey_returnsConfiguredNoEntryValue() {
+        IntIntMap map = new IntIntMap(8, 0.75f, -1);
+        assertEquals(-1, map.noEntryValue());
+        assertEquals(-1, map.get(7));
+        assertEquals(-1, map.put(7, 70));
+        assertEquals(70, map.put(7, 71));
+        assertEquals(71, map.remove(7));
+        assertEquals(-1, map.remove(7));
+    }
+
+    @Test
+    void zeroKey_isStoredLikeAnyOther() {
+        IntIntMap map = new IntIntMap(8, 0.75f, -1);
+        assertFalse(map.containsKey(0));
+
+        map.put(0, 100);
+        assertTrue(map.containsKey(0));
+        assertEquals(100, map.get(0));
+        assertEquals(1, map.size());
+
+        assertEquals(100, map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void grows_andKeepsEntries() {
+        IntIntMap map = new IntIntMap(0);
+        for (int i = -5_000; i < 5_000; i++) map.put(i, i * 3);
+
+        assertEquals(10_000, map.size());
+        for (int i = -5_000; i < 5_000; i++) assertEquals(i * 3, map.get(i));
+    }
+
+    @Test
+    void forEach_visitsEveryEntryIncludingZero() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < 10; i++) map.put(i, i + 1);
+
+        int[] sums = new int[2];
+        map.forEach((k, v) -> {
+            sums[0] += k;
+            sums[1] += v;
+        });
+        assertEquals(45, sums[0]);
+        assertEquals(55, sums[1]);
+    }
+
+    @Test
+    void clear_removesEverything() {
+        IntIntMap map = new IntIntMap();
+        map.put(0, 1);
+        map.put(1, 2);
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    void randomOperations_matchJavaUtilHashMap() {
+        IntIntMap map = new IntIntMap(0, 0.9f, Integer.MIN_VALUE);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random rnd = new Random(27);
+
+        for (int step = 0; step < 50_000; step++) {
+            int key = rnd.nextInt(1_000) - 500;
+            switch (rnd.nextInt(3)) {
+                case 0 -> assertEquals(expected.getOrDefault(key, Integer.MIN_VALUE), map.get(key));
+                case 1 -> {
+                    Integer old = expected.put(key, step);
+                    assertEquals(old == null ? Integer.MIN_VALUE : old, map.put(key, step));
+                }
+                default -> {
+                    Integer old = expected.remove(key);
+                    assertEquals(old == null ? Integer.MIN_VALUE : old, map.remove(key));
+                }
+            }
+        }
+        assertEquals(expected.size(), map.size());
+    }
+}
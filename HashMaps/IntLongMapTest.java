@@ -0,0 +1,56 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive IntLongMap; the contract it shares with the
+ * other primitive tables is covered by KeyTableContractTest
+ */
+class IntLongMapTest {
+
+    @Test
+    void defaultNoEntryValue_isZero() {
+        IntLongMap map = new IntLongMap();
+        assertEquals(0L, map.noEntryValue());
+        assertEquals(0L, map.get(7));
+        assertEquals(0L, map.remove(7));
+    }
+
+    @Test
+    void longNoEntryValue_isReturnedForEveryMiss() {
+        IntLongMap map = new IntLongMap(8, 0.75f, Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, map.get(7));
+        assertEquals(Long.MIN_VALUE, map.get(0));
+        assertEquals(Long.MIN_VALUE, map.put(7, 1L << 40));
+        assertEquals(Long.MIN_VALUE, map.put(0, 1L));
+        assertEquals(1L << 40, map.remove(7));
+        assertEquals(Long.MIN_VALUE, map.remove(7));
+        assertEquals(-3L, map.getOrDefault(7, -3L));
+    }
+
+    @Test
+    void valuesBeyondIntRange_areKeptWhole() {
+        IntLongMap map = new IntLongMap();
+        map.put(1, Long.MAX_VALUE);
+        map.put(2, Long.MIN_VALUE);
+        map.put(0, 1L << 33);
+
+        assertEquals(Long.MAX_VALUE, map.get(1));
+        assertEquals(Long.MIN_VALUE, map.get(2));
+        assertEquals(1L << 33, map.get(0));
+    }
+
+    @Test
+    void valueEqualToNoEntryValue_isOnlyDistinguishedByContainsKey() {
+        IntLongMap map = new IntLongMap(8, 0.75f, -1L);
+        map.put(5, -1L);
+        assertEquals(-1L, map.get(5));
+        assertTrue(map.containsKey(5));
+        assertFalse(map.containsKey(6));
+    }
+}
@@ -0,0 +1,73 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive-keyed IntObjectMap; the contract it shares
+ * with the other primitive tables is covered by KeyTableContractTest
+ */
+class IntObjectMapTest {
+
+    @Test
+    void missingKeys_mapToNull() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.get(7));
+        assertNull(map.get(0));
+        assertNull(map.remove(7));
+        assertNull(map.remove(0));
+        assertEquals("fallback", map.getOrDefault(7, "fallback"));
+    }
+
+    @Test
+    void nullValue_isAnEntry_evenForKeyZero() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.put(7, null));
+        assertNull(map.put(0, null));
+
+        assertTrue(map.containsKey(7));
+        assertTrue(map.containsKey(0));
+        assertEquals(2, map.size());
+        // a stored null wins over the default, as in java.util.HashMap
+        assertNull(map.getOrDefault(7, "fallback"));
+        assertNull(map.getOrDefault(0, "fallback"));
+
+        Map<Integer, String> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(2, seen.size());
+        assertTrue(seen.containsKey(0) && seen.containsKey(7));
+
+        assertNull(map.remove(7));
+        assertFalse(map.containsKey(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_returnsPreviousValueOrNull() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.put(3, "a"));
+        assertEquals("a", map.put(3, "b"));
+        assertEquals("b", map.put(3, null));
+        assertNull(map.put(3, "c"));
+        assertEquals("c", map.get(3));
+    }
+
+    @Test
+    void clear_dropsKeyZeroValue() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(0, "zero");
+        map.put(1, "one");
+        map.clear();
+
+        assertNull(map.get(0));
+        assertNull(map.put(0, "again"));
+        assertEquals(1, map.size());
+    }
+}
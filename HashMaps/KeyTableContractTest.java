@@ -0,0 +1,291 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Contract shared by every table built on IntKeyTable and LongKeyTable: the
+ * out-of-line key 0, backward-shift removal, growth and agreement with
+ * java.util.HashMap. Each table is driven through a small adapter that views
+ * it as a map from long keys to long values; a set stores the value 1 for
+ * every element. Behaviour that differs between tables is tested in the
+ * per-class test files.
+ */
+class KeyTableContractTest {
+
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    /** One table seen as a long-to-long map; ABSENT stands for a missing entry. */
+    private interface Table {
+        long put(long key, long value);
+
+        long get(long key);
+
+        long remove(long key);
+
+        boolean containsKey(long key);
+
+        int size();
+
+        void clear();
+
+        Map<Long, Long> contents();
+    }
+
+    /** A table class under test, creating instances with a given expected size and load factor. */
+    private interface Kind {
+        Table create(int expectedSize, float loadFactor);
+    }
+
+    private record Case(String name, boolean isSet, boolean longKeys, Kind kind) {
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        /** Spreads i over the key type, using the high half of long keys too. */
+        long key(int i) {
+            return longKeys ? i * 0x1_0000_0001L : i * 31L;
+        }
+
+        /** The value the table will actually hold for value. */
+        long stored(long value) {
+            return isSet ? 1 : value;
+        }
+    }
+
+    static List<Case> tables() {
+        return List.of(
+                new Case("IntIntMap", false, false, (n, load) -> {
+                    IntIntMap m = new IntIntMap(n, load, Integer.MIN_VALUE);
+                    return new Table() {
+                        public long put(long k, long v) { return widen(m.put((int) k, (int) v)); }
+                        public long get(long k) { return widen(m.get((int) k)); }
+                        public long remove(long k) { return widen(m.remove((int) k)); }
+                        public boolean containsKey(long k) { return m.containsKey((int) k); }
+                        public int size() { return m.size(); }
+                        public void clear() { m.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            m.forEach((k, v) -> out.put((long) k, (long) v));
+                            return out;
+                        }
+                    };
+                }),
+                new Case("IntLongMap", false, false, (n, load) -> {
+                    IntLongMap m = new IntLongMap(n, load, ABSENT);
+                    return new Table() {
+                        public long put(long k, long v) { return m.put((int) k, v); }
+                        public long get(long k) { return m.get((int) k); }
+                        public long remove(long k) { return m.remove((int) k); }
+                        public boolean containsKey(long k) { return m.containsKey((int) k); }
+                        public int size() { return m.size(); }
+                        public void clear() { m.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            m.forEach((k, v) -> out.put((long) k, v));
+                            return out;
+                        }
+                    };
+                }),
+                new Case("LongIntMap", false, true, (n, load) -> {
+                    LongIntMap m = new LongIntMap(n, load, Integer.MIN_VALUE);
+                    return new Table() {
+                        public long put(long k, long v) { return widen(m.put(k, (int) v)); }
+                        public long get(long k) { return widen(m.get(k)); }
+                        public long remove(long k) { return widen(m.remove(k)); }
+                        public boolean containsKey(long k) { return m.containsKey(k); }
+                        public int size() { return m.size(); }
+                        public void clear() { m.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            m.forEach((k, v) -> out.put(k, (long) v));
+                            return out;
+                        }
+                    };
+                }),
+                new Case("LongLongMap", false, true, (n, load) -> {
+                    LongLongMap m = new LongLongMap(n, load, ABSENT);
+                    return new Table() {
+                        public long put(long k, long v) { return m.put(k, v); }
+                        public long get(long k) { return m.get(k); }
+                        public long remove(long k) { return m.remove(k); }
+                        public boolean containsKey(long k) { return m.containsKey(k); }
+                        public int size() { return m.size(); }
+                        public void clear() { m.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            m.forEach(out::put);
+                            return out;
+                        }
+                    };
+                }),
+                new Case("IntObjectMap", false, false, (n, load) -> {
+                    IntObjectMap<Long> m = new IntObjectMap<>(n, load);
+                    return new Table() {
+                        public long put(long k, long v) { return unbox(m.put((int) k, v)); }
+                        public long get(long k) { return unbox(m.get((int) k)); }
+                        public long remove(long k) { return unbox(m.remove((int) k)); }
+                        public boolean containsKey(long k) { return m.containsKey((int) k); }
+                        public int size() { return m.size(); }
+                        public void clear() { m.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            m.forEach((k, v) -> out.put((long) k, v));
+                            return out;
+                        }
+                    };
+                }),
+                new Case("LongObjectMap", false, true, (n, load) -> {
+                    LongObjectMap<Long> m = new LongObjectMap<>(n, load);
+                    return new Table() {
+                        public long put(long k, long v) { return unbox(m.put(k, v)); }
+                        public long get(long k) { return unbox(m.get(k)); }
+                        public long remove(long k) { return unbox(m.remove(k)); }
+                        public boolean containsKey(long k) { return m.containsKey(k); }
+                        public int size() { return m.size(); }
+                        public void clear() { m.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            m.forEach(out::put);
+                            return out;
+                        }
+                    };
+                }),
+                new Case("IntHashSet", true, false, (n, load) -> {
+                    IntHashSet s = new IntHashSet(n, load);
+                    return new Table() {
+                        public long put(long k, long v) { return s.add((int) k) ? ABSENT : 1; }
+                        public long get(long k) { return s.contains((int) k) ? 1 : ABSENT; }
+                        public long remove(long k) { return s.remove((int) k) ? 1 : ABSENT; }
+                        public boolean containsKey(long k) { return s.contains((int) k); }
+                        public int size() { return s.size(); }
+                        public void clear() { s.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            s.forEach(k -> out.put((long) k, 1L));
+                            return out;
+                        }
+                    };
+                }),
+                new Case("LongHashSet", true, true, (n, load) -> {
+                    LongHashSet s = new LongHashSet(n, load);
+                    return new Table() {
+                        public long put(long k, long v) { return s.add(k) ? ABSENT : 1; }
+                        public long get(long k) { return s.contains(k) ? 1 : ABSENT; }
+                        public long remove(long k) { return s.remove(k) ? 1 : ABSENT; }
+                        public boolean containsKey(long k) { return s.contains(k); }
+                        public int size() { return s.size(); }
+                        public void clear() { s.clear(); }
+                        public Map<Long, Long> contents() {
+                            Map<Long, Long> out = new HashMap<>();
+                            s.forEach(k -> out.put(k, 1L));
+                            return out;
+                        }
+                    };
+                }));
+    }
+
+    private static long widen(int value) {
+        return (value == Integer.MIN_VALUE) ? ABSENT : value;
+    }
+
+    private static long unbox(Long value) {
+        return (value == null) ? ABSENT : value;
+    }
+
+    @ParameterizedTest
+    @MethodSource("tables")
+    void newTable_isEmpty(Case c) {
+        Table t = c.kind().create(8, 0.75f);
+        assertEquals(0, t.size());
+        assertFalse(t.containsKey(0));
+        assertFalse(t.containsKey(c.key(1)));
+        assertEquals(ABSENT, t.get(c.key(1)));
+        assertEquals(ABSENT, t.remove(c.key(1)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tables")
+    void zeroKey_isStoredOutOfLine(Case c) {
+        Table t = c.kind().create(8, 0.75f);
+        assertEquals(ABSENT, t.put(0, 100));
+        assertEquals(c.stored(100), t.put(0, 101));
+        t.put(c.key(1), 1);
+        assertTrue(t.containsKey(0));
+        assertEquals(c.stored(101), t.get(0));
+        assertEquals(2, t.size());
+        assertEquals(Map.of(0L, c.stored(101), c.key(1), c.stored(1)), t.contents());
+
+        assertEquals(c.stored(101), t.remove(0));
+        assertEquals(ABSENT, t.remove(0));
+        assertFalse(t.containsKey(0));
+        assertEquals(1, t.size());
+
+        t.put(0, 5);
+        t.clear();
+        assertFalse(t.containsKey(0));
+        assertFalse(t.containsKey(c.key(1)));
+        assertEquals(0, t.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("tables")
+    void remove_shiftsClusteredEntriesBack(Case c) {
+        // 900 keys in 1024 slots pack into long probe runs, so removing every
+        // other one must shift later keys, and their values, back into the gaps
+        Table t = c.kind().create(900, 0.9f);
+        for (int i = 1; i <= 900; i++) t.put(c.key(i), i);
+        for (int i = 1; i <= 900; i += 2) assertEquals(c.stored(i), t.remove(c.key(i)));
+
+        assertEquals(450, t.size());
+        for (int i = 1; i <= 900; i++) {
+            assertEquals((i % 2 == 0) ? c.stored(i) : ABSENT, t.get(c.key(i)), "key " + c.key(i));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("tables")
+    void grows_andKeepsEntries(Case c) {
+        Table t = c.kind().create(0, 0.75f);
+        for (int i = -5_000; i < 5_000; i++) t.put(c.key(i), i * 3L);
+
+        assertEquals(10_000, t.size());
+        for (int i = -5_000; i < 5_000; i++) assertEquals(c.stored(i * 3L), t.get(c.key(i)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tables")
+    void randomOperations_matchJavaUtilHashMap(Case c) {
+        Table t = c.kind().create(0, 0.9f);
+        Map<Long, Long> expected = new HashMap<>();
+        Random rnd = new Random(27);
+
+        for (int step = 0; step < 50_000; step++) {
+            long key = c.key(rnd.nextInt(1_000) - 500);
+            switch (rnd.nextInt(3)) {
+                case 0 -> assertEquals(expected.getOrDefault(key, ABSENT), t.get(key));
+                case 1 -> {
+                    Long old = expected.put(key, c.stored(step));
+                    assertEquals(old == null ? ABSENT : old, t.put(key, step));
+                }
+                default -> {
+                    Long old = expected.remove(key);
+                    assertEquals(old == null ? ABSENT : old, t.remove(key));
+                }
+            }
+        }
+        assertEquals(expected.size(), t.size());
+        assertEquals(expected, t.contents());
+    }
+}
@@ -0,0 +1,98 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import java.util.function.LongConsumer;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a hash set of long values without boxing. Elements live
+ * in a flat long array using linear probing with backward-shift deletion.
+ * 0 marks an empty slot, so membership of 0 is tracked with a separate flag.
+ */
+public class LongHashSet extends LongKeyTable<Void> {
+
+    /** Creates an empty set with the default capacity and load factor. */
+    public LongHashSet() {
+        this(HashUtil.DEFAULT_EXPECTED_SIZE, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    /** Creates an empty set sized to hold expectedSize elements without resizing. */
+    public LongHashSet(int expectedSize) {
+        this(expectedSize, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    /** Creates an empty set sized to hold expectedSize elements under loadFactor without resizing. */
+    public LongHashSet(int expectedSize, float loadFactor) {
+        super(expectedSize, loadFactor);
+    }
+
+    /** Returns true if value is in the set. */
+    public boolean contains(long value) {
+        if (value == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return slotOf(value) >= 0;
+    }
+
+    /** Adds value and returns true if it was not already present. */
+    public boolean add(long value) {
+        if (value == FREE_KEY) {
+            boolean added = !hasFreeKey;
+            hasFreeKey = true;
+            return added;
+        }
+        int i = slotOf(value);
+        if (i >= 0) {
+            return false;
+        }
+        insertAt(~i, value);
+        return true;
+    }
+
+    /** Removes value and returns true if it was present. */
+    public boolean remove(long value) {
+        if (value == FREE_KEY) {
+            boolean removed = hasFreeKey;
+            hasFreeKey = false;
+            return removed;
+        }
+        int i = slotOf(value);
+        if (i < 0) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    /** Calls action for every element without allocating an iterator or boxing. */
+    public void forEach(LongConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        if (hasFreeKey) {
+            action.accept(FREE_KEY);
+        }
+        long[] ks = keys;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != FREE_KEY) {
+                action.accept(ks[i]);
+            }
+        }
+    }
+
+    // a set keeps no values, so there is nothing to move alongside the keys
+
+    @Override
+    Void newValues(int capacity) {
+        return null;
+    }
+
+    @Override
+    void copyValue(Void oldValues, int from, int to) {
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+    }
+}
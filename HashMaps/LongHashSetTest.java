@@ -0,0 +1,74 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive LongHashSet
+ */
+class LongHashSetTest {
+
+    @Test
+    void newSet_startsEmpty() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0L));
+    }
+
+    @Test
+    void add_reportsWhetherValueWasNew() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.add(-1L));
+        assertFalse(set.add(-1L));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void remove_reportsWhetherValueWasPresent() {
+        LongHashSet set = new LongHashSet();
+        set.add(0L);
+        set.add(9L);
+
+        assertTrue(set.remove(0L));
+        assertFalse(set.remove(0L));
+        assertTrue(set.remove(9L));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void forEach_visitsEveryValue() {
+        LongHashSet set = new LongHashSet(0);
+        for (long i = 0; i < 100; i++) set.add(i);
+
+        long[] sum = new long[1];
+        set.forEach(v -> sum[0] += v);
+        assertEquals(4950, sum[0]);
+    }
+
+    @Test
+    void randomOperations_matchJavaUtilHashSet() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        Random rnd = new Random(27);
+
+        for (int step = 0; step < 50_000; step++) {
+            long value = rnd.nextInt(2_000) - 1_000;
+            switch (rnd.nextInt(3)) {
+                case 0 -> assertEquals(expected.add(value), set.add(value));
+                case 1 -> assertEquals(expected.remove(value), set.remove(value));
+                default -> assertEquals(expected.contains(value), set.contains(value));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+    }
+}
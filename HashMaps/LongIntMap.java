@@ -0,0 +1,140 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a hash map from long keys to int values without boxing.
+ * Keys and values live in flat long and int arrays using linear probing with
+ * backward-shift deletion. Key 0 marks an empty slot, so an entry for key 0
+ * is stored out of line. Lookups that miss return a configurable no-entry value.
+ */
+public class LongIntMap extends LongKeyTable<int[]> {
+
+    /** Receives each entry during {@link #forEach}. */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void visit(long key, int value);
+    }
+
+    private int[] values;
+    private int freeKeyValue;
+    private final int noEntryValue;
+
+    /** Creates an empty map whose no-entry value is 0. */
+    public LongIntMap() {
+        this(HashUtil.DEFAULT_EXPECTED_SIZE, HashUtil.DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /** Creates an empty map sized to hold expectedSize entries, whose no-entry value is 0. */
+    public LongIntMap(int expectedSize) {
+        this(expectedSize, HashUtil.DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Creates an empty map sized to hold expectedSize entries without resizing.
+     * noEntryValue is returned by get, put and remove when a key is absent.
+     */
+    public LongIntMap(int expectedSize, float loadFactor, int noEntryValue) {
+        super(expectedSize, loadFactor);
+        this.noEntryValue = noEntryValue;
+    }
+
+    /** Returns the value reported for absent keys. */
+    public int noEntryValue() {
+        return noEntryValue;
+    }
+
+    /** Returns true if the map contains an entry for key. */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    /** Returns the value mapped to key, or the no-entry value if there is none. */
+    public int get(long key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    /** Returns the value mapped to key, or defaultValue if there is none. */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int i = slotOf(key);
+        return (i < 0) ? defaultValue : values[i];
+    }
+
+    /** Maps key to value and returns the previous value, or the no-entry value if there was none. */
+    public int put(long key, int value) {
+        if (key == FREE_KEY) {
+            int old = hasFreeKey ? freeKeyValue : noEntryValue;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return old;
+        }
+        int i = slotOf(key);
+        if (i >= 0) {
+            int old = values[i];
+            values[i] = value;
+            return old;
+        }
+        values[~i] = value;
+        insertAt(~i, key);
+        return noEntryValue;
+    }
+
+    /** Removes the entry for key and returns its value, or the no-entry value if there was none. */
+    public int remove(long key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return noEntryValue;
+            }
+            hasFreeKey = false;
+            return freeKeyValue;
+        }
+        int i = slotOf(key);
+        if (i < 0) {
+            return noEntryValue;
+        }
+        int old = values[i];
+        removeAt(i);
+        return old;
+    }
+
+    /** Calls visitor for every entry without allocating an iterator or boxing. */
+    public void forEach(EntryVisitor visitor) {
+        if (visitor == null) {
+            throw new IllegalArgumentException("visitor cannot be null");
+        }
+        if (hasFreeKey) {
+            visitor.visit(FREE_KEY, freeKeyValue);
+        }
+        long[] ks = keys;
+        int[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != FREE_KEY) {
+                visitor.visit(ks[i], vs[i]);
+            }
+        }
+    }
+
+    @Override
+    int[] newValues(int capacity) {
+        int[] old = values;
+        values = new int[capacity];
+        return old;
+    }
+
+    @Override
+    void copyValue(int[] oldValues, int from, int to) {
+        values[to] = oldValues[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+}
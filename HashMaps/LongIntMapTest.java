@@ -0,0 +1,43 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive LongIntMap; the contract it shares with the
+ * other primitive tables is covered by KeyTableContractTest
+ */
+class LongIntMapTest {
+
+    @Test
+    void noEntryValue_isReturnedForEveryMiss() {
+        LongIntMap map = new LongIntMap(8, 0.75f, -1);
+        assertEquals(-1, map.noEntryValue());
+        assertEquals(-1, map.get(1L << 40));
+        assertEquals(-1, map.put(1L << 40, 7));
+        assertEquals(7, map.remove(1L << 40));
+        assertEquals(-1, map.remove(1L << 40));
+        assertEquals(42, map.getOrDefault(1L << 40, 42));
+        assertEquals(0, new LongIntMap().noEntryValue());
+    }
+
+    @Test
+    void keysThatTruncateToTheSameInt_stayDistinct() {
+        LongIntMap map = new LongIntMap();
+        map.put(1L, 1);
+        map.put(1L + (1L << 32), 2);
+        map.put(1L - (1L << 32), 3);
+        map.put(1L << 32, 4); // low 32 bits are zero, yet this is not the free key
+
+        assertEquals(4, map.size());
+        assertEquals(1, map.get(1L));
+        assertEquals(2, map.get(1L + (1L << 32)));
+        assertEquals(3, map.get(1L - (1L << 32)));
+        assertEquals(4, map.get(1L << 32));
+        assertFalse(map.containsKey(0L));
+    }
+}
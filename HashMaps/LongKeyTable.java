@@ -0,0 +1,140 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import java.util.Arrays;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Open-addressing index over long keys shared by LongHashSet and the Long*Map
+ * classes: linear probing from a Fibonacci-hashed home slot, backward-shift
+ * deletion (no tombstones) and doubling once the load factor is passed. Key 0
+ * marks an empty slot, so a table that holds key 0 only sets hasFreeKey and
+ * the subclass keeps its value out of line.
+ *
+ * Subclasses own a value array of type A kept parallel to keys and supply the
+ * typed accesses; the table calls the hooks below whenever it moves a key.
+ */
+abstract class LongKeyTable<A> {
+
+    static final long FREE_KEY = 0;
+
+    long[] keys;
+    boolean hasFreeKey;
+    private int shift;
+    private int threshold;
+    private int assigned;      // keys stored in the array
+    private final float loadFactor;
+
+    /** Sizes the table for expectedSize keys; calls newValues before the subclass constructor runs. */
+    LongKeyTable(int expectedSize, float loadFactor) {
+        HashUtil.checkArguments(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(HashUtil.tableSizeFor(expectedSize, loadFactor));
+    }
+
+    /** Returns the number of keys held, including key 0. */
+    public int size() {
+        return hasFreeKey ? assigned + 1 : assigned;
+    }
+
+    /** Returns true if no keys are held. */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Removes every key, keeping the current capacity. */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        assigned = 0;
+        hasFreeKey = false;
+    }
+
+    /**
+     * Returns the slot holding key, or the bitwise complement of the free slot
+     * where it belongs if it is absent. key must not be FREE_KEY.
+     */
+    final int slotOf(long key) {
+        int mask = keys.length - 1;
+        int i = HashUtil.mix(key) >>> shift;
+        long k;
+        while ((k = keys[i]) != FREE_KEY) {
+            if (k == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return ~i;
+    }
+
+    /** Stores key in free slot i, whose value the caller has already set, and grows if needed. */
+    final void insertAt(int i, long key) {
+        keys[i] = key;
+        if (++assigned > threshold) {
+            resize();
+        }
+    }
+
+    /**
+     * Empties slot i, moving later entries of the same probe run back into the
+     * gap whenever their home slot allows it, so no tombstone is needed.
+     */
+    final void removeAt(int i) {
+        int mask = keys.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = keys[j];
+            if (k == FREE_KEY) {
+                break;
+            }
+            int home = HashUtil.mix(k) >>> shift;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = k;
+                moveValue(j, i);
+                i = j;
+            }
+        }
+        keys[i] = FREE_KEY;
+        clearValue(i);
+        assigned--;
+    }
+
+    /** Installs a new value array of the given capacity and returns the one it replaces, or null. */
+    abstract A newValues(int capacity);
+
+    /** Copies the value in slot from of oldValues into slot to of the current value array. */
+    abstract void copyValue(A oldValues, int from, int to);
+
+    /** Moves the value in slot from to slot to of the current value array. */
+    abstract void moveValue(int from, int to);
+
+    /** Releases whatever slot i still references once its key is gone; only object values need it. */
+    void clearValue(int i) {
+    }
+
+    /** Doubles the table and re-inserts every entry. */
+    private void resize() {
+        long[] oldKeys = keys;
+        A oldValues = allocate(HashUtil.grow(oldKeys.length, getClass().getSimpleName()));
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long k = oldKeys[j];
+            if (k != FREE_KEY) {
+                int i = HashUtil.mix(k) >>> shift;
+                while (keys[i] != FREE_KEY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k;
+                copyValue(oldValues, j, i);
+            }
+        }
+    }
+
+    private A allocate(int capacity) {
+        keys = new long[capacity];
+        shift = HashUtil.shiftFor(capacity);
+        threshold = HashUtil.thresholdFor(capacity, loadFactor);
+        return newValues(capacity);
+    }
+}
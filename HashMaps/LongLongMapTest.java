@@ -0,0 +1,57 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive LongLongMap; the contract it shares with the
+ * other primitive tables is covered by KeyTableContractTest
+ */
+class LongLongMapTest {
+
+    @Test
+    void defaultNoEntryValue_isZero() {
+        LongLongMap map = new LongLongMap();
+        assertEquals(0L, map.noEntryValue());
+        assertEquals(0L, map.get(7L));
+        assertEquals(0L, map.remove(7L));
+    }
+
+    @Test
+    void longNoEntryValue_isReturnedForEveryMiss() {
+        LongLongMap map = new LongLongMap(8, 0.75f, Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, map.get(1L << 40));
+        assertEquals(Long.MIN_VALUE, map.get(0L));
+        assertEquals(Long.MIN_VALUE, map.put(1L << 40, 1L << 41));
+        assertEquals(1L << 41, map.remove(1L << 40));
+        assertEquals(Long.MIN_VALUE, map.remove(1L << 40));
+        assertEquals(-3L, map.getOrDefault(1L << 40, -3L));
+    }
+
+    @Test
+    void extremeKeysAndValues_roundTrip() {
+        LongLongMap map = new LongLongMap();
+        map.put(Long.MAX_VALUE, Long.MIN_VALUE);
+        map.put(Long.MIN_VALUE, Long.MAX_VALUE);
+        map.put(-1L, -1L);
+
+        assertEquals(Long.MIN_VALUE, map.get(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, map.get(Long.MIN_VALUE));
+        assertEquals(-1L, map.get(-1L));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void keysDifferingOnlyInHighBits_doNotCollapse() {
+        LongLongMap map = new LongLongMap();
+        for (long i = 1; i <= 1_000; i++) map.put(i << 32, i);
+
+        assertEquals(1_000, map.size());
+        for (long i = 1; i <= 1_000; i++) assertEquals(i, map.get(i << 32));
+        assertFalse(map.containsKey(1L));
+    }
+}
@@ -0,0 +1,148 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import java.util.Arrays;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a hash map from long keys to object values without boxing
+ * the keys. Keys live in a flat long array beside an Object array of values,
+ * using linear probing with backward-shift deletion. Key 0 marks an empty slot,
+ * so an entry for key 0 is stored out of line. Absent keys map to null.
+ */
+public class LongObjectMap<V> extends LongKeyTable<Object[]> {
+
+    /** Receives each entry during {@link #forEach}. */
+    @FunctionalInterface
+    public interface EntryVisitor<V> {
+        void visit(long key, V value);
+    }
+
+    private Object[] values;
+    private V freeKeyValue;
+
+    /** Creates an empty map with the default capacity and load factor. */
+    public LongObjectMap() {
+        this(HashUtil.DEFAULT_EXPECTED_SIZE, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    /** Creates an empty map sized to hold expectedSize entries without resizing. */
+    public LongObjectMap(int expectedSize) {
+        this(expectedSize, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    /** Creates an empty map sized to hold expectedSize entries under loadFactor without resizing. */
+    public LongObjectMap(int expectedSize, float loadFactor) {
+        super(expectedSize, loadFactor);
+    }
+
+    /** Returns true if the map contains an entry for key. */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    /** Returns the value mapped to key, or null if there is none. */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /** Returns the value mapped to key, or defaultValue if there is none. */
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int i = slotOf(key);
+        return (i < 0) ? defaultValue : valueAt(i);
+    }
+
+    /** Maps key to value and returns the previous value, or null if there was none. */
+    public V put(long key, V value) {
+        if (key == FREE_KEY) {
+            V old = hasFreeKey ? freeKeyValue : null;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return old;
+        }
+        int i = slotOf(key);
+        if (i >= 0) {
+            V old = valueAt(i);
+            values[i] = value;
+            return old;
+        }
+        values[~i] = value;
+        insertAt(~i, key);
+        return null;
+    }
+
+    /** Removes the entry for key and returns its value, or null if there was none. */
+    public V remove(long key) {
+        if (key == FREE_KEY) {
+            V old = freeKeyValue;
+            hasFreeKey = false;
+            freeKeyValue = null;
+            return old;
+        }
+        int i = slotOf(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = valueAt(i);
+        removeAt(i);
+        return old;
+    }
+
+    /** Removes all entries, keeping the current capacity. */
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(values, null);
+        freeKeyValue = null;
+    }
+
+    /** Calls visitor for every entry without allocating an iterator or boxing. */
+    public void forEach(EntryVisitor<? super V> visitor) {
+        if (visitor == null) {
+            throw new IllegalArgumentException("visitor cannot be null");
+        }
+        if (hasFreeKey) {
+            visitor.visit(FREE_KEY, freeKeyValue);
+        }
+        long[] ks = keys;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != FREE_KEY) {
+                visitor.visit(ks[i], valueAt(i));
+            }
+        }
+    }
+
+    @Override
+    Object[] newValues(int capacity) {
+        Object[] old = values;
+        values = new Object[capacity];
+        return old;
+    }
+
+    @Override
+    void copyValue(Object[] oldValues, int from, int to) {
+        values[to] = oldValues[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int i) {
+        values[i] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int i) {
+        return (V) values[i];
+    }
+}
@@ -0,0 +1,87 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the primitive-keyed LongObjectMap
+ */
+class LongObjectMapTest {
+
+    @Test
+    void newMap_startsEmpty() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1L));
+    }
+
+    @Test
+    void put_get_remove_work() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertNull(map.put(Long.MAX_VALUE, "max"));
+        assertNull(map.put(Long.MIN_VALUE, "min"));
+        assertNull(map.put(0L, "zero"));
+
+        assertEquals(3, map.size());
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("zero", map.get(0L));
+        assertEquals("fallback", map.getOrDefault(42L, "fallback"));
+
+        assertEquals("min", map.remove(Long.MIN_VALUE));
+        assertEquals("zero", map.remove(0L));
+        assertNull(map.remove(0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void keysDifferingOnlyInHighBits_doNotCollapse() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        for (long i = 1; i <= 1_000; i++) map.put(i << 32, i);
+
+        assertEquals(1_000, map.size());
+        for (long i = 1; i <= 1_000; i++) assertEquals(i, map.get(i << 32));
+    }
+
+    @Test
+    void forEach_visitsEveryEntry() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(0L, "a");
+        map.put(1L, "b");
+        map.put(2L, "c");
+
+        StringBuilder seen = new StringBuilder();
+        long[] keySum = new long[1];
+        map.forEach((k, v) -> {
+            keySum[0] += k;
+            seen.append(v);
+        });
+        assertEquals(3, keySum[0]);
+        assertEquals(3, seen.length());
+    }
+
+    @Test
+    void randomOperations_matchJavaUtilHashMap() {
+        LongObjectMap<Integer> map = new LongObjectMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random rnd = new Random(27);
+
+        for (int step = 0; step < 50_000; step++) {
+            long key = (rnd.nextInt(1_000) - 500) * 0x1_0000_0001L;
+            switch (rnd.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key, step), map.put(key, step));
+                case 1 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+    }
+}
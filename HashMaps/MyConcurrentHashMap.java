@@ -0,0 +1,388 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import com.sophiapriola.dstoolkit.metrics.ResizeEvent;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a thread-safe hash map using lock striping. Keys are
+ * spread over a power-of-two number of segments, each with its own lock and
+ * its own chained bucket table. Reads never lock: chain links are immutable
+ * and values are volatile, so get sees either the old or the new state.
+ * Writers only lock their segment, and a segment that outgrows its table
+ * rehashes into a new table and publishes it with a single volatile write, so
+ * resizing is incremental (one segment at a time) and readers keep using the
+ * old table until the swap. computeIfAbsent and merge run under the segment
+ * lock and are atomic; their functions must not touch this map.
+ */
+public class MyConcurrentHashMap<K, V> {
+
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final int MIN_SEGMENT_CAPACITY = 2;
+
+    /** Chain node; only value changes after publication. */
+    private static final class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /** One stripe of the map: a lock plus a bucket table only written while holding it. */
+    private static final class Segment<K, V> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<Node<K, V>> table;
+        volatile int count;
+        int threshold;
+        final float loadFactor;
+
+        Segment(int capacity, float loadFactor) {
+            this.loadFactor = loadFactor;
+            setTable(new AtomicReferenceArray<>(capacity));
+        }
+
+        void setTable(AtomicReferenceArray<Node<K, V>> newTable) {
+            threshold = HashUtil.thresholdFor(newTable.length(), loadFactor);
+            table = newTable;
+        }
+    }
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final int segmentBits;
+
+    /** Creates an empty map with the default capacity, load factor and 16 segments. */
+    public MyConcurrentHashMap() {
+        this(HashUtil.DEFAULT_EXPECTED_SIZE, HashUtil.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Creates an empty map sized to hold expectedSize entries. concurrencyLevel
+     * is the expected number of concurrently writing threads and is rounded up
+     * to a power-of-two segment count.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MyConcurrentHashMap(int expectedSize, float loadFactor, int concurrencyLevel) {
+        HashUtil.checkArguments(expectedSize, loadFactor);
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel must be positive");
+        }
+        int segmentCount = 1;
+        while (segmentCount < Math.min(concurrencyLevel, MAX_SEGMENTS)) {
+            segmentCount <<= 1;
+        }
+        segmentBits = Integer.numberOfTrailingZeros(segmentCount);
+        segmentShift = 32 - segmentBits;
+
+        int perSegment = (expectedSize + segmentCount - 1) / segmentCount;
+        int capacity = Math.max(MIN_SEGMENT_CAPACITY, HashUtil.tableSizeFor(perSegment, loadFactor));
+        segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(capacity, loadFactor);
+        }
+    }
+
+    /** Returns the number of entries; only exact when no writes are in flight. */
+    public int size() {
+        long sum = 0;
+        for (Segment<K, V> s : segments) {
+            sum += s.count;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /** Returns true if the map has no entries. */
+    public boolean isEmpty() {
+        for (Segment<K, V> s : segments) {
+            if (s.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if the map contains an entry for key. */
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /** Returns the value mapped to key, or null if there is none. Never blocks. */
+    public V get(K key) {
+        return lookup(hash(key), key);
+    }
+
+    /** Returns the value mapped to key, or defaultValue if there is none. */
+    public V getOrDefault(K key, V defaultValue) {
+        V v = get(key);
+        return (v == null) ? defaultValue : v;
+    }
+
+    /** Maps key to value and returns the previous value, or null if there was none. */
+    public V put(K key, V value) {
+        checkValue(value);
+        int h = hash(key);
+        Segment<K, V> s = segmentFor(h);
+        s.lock();
+        try {
+            Node<K, V> e = find(s, h, key);
+            if (e != null) {
+                V old = e.value;
+                e.value = value;
+                return old;
+            }
+            insert(s, h, key, value);
+            return null;
+        } finally {
+            s.unlock();
+        }
+    }
+
+    /** Maps key to value only if it is absent; returns the existing value, or null if it was added. */
+    public V putIfAbsent(K key, V value) {
+        checkValue(value);
+        int h = hash(key);
+        Segment<K, V> s = segmentFor(h);
+        s.lock();
+        try {
+            Node<K, V> e = find(s, h, key);
+            if (e != null) {
+                return e.value;
+            }
+            insert(s, h, key, value);
+            return null;
+        } finally {
+            s.unlock();
+        }
+    }
+
+    /** Removes the entry for key and returns its value, or null if there was none. */
+    public V remove(K key) {
+        int h = hash(key);
+        Segment<K, V> s = segmentFor(h);
+        s.lock();
+        try {
+            return unlink(s, h, key);
+        } finally {
+            s.unlock();
+        }
+    }
+
+    /**
+     * Returns the value for key, atomically computing and inserting it with
+     * mappingFunction if absent. The function runs at most once per absent key;
+     * if it returns null nothing is inserted.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (mappingFunction == null) {
+            throw new IllegalArgumentException("mappingFunction cannot be null");
+        }
+        int h = hash(key);
+        V v = lookup(h, key);
+        if (v != null) {
+            return v; // lock-free fast path
+        }
+        Segment<K, V> s = segmentFor(h);
+        s.lock();
+        try {
+            Node<K, V> e = find(s, h, key);
+            if (e != null) {
+                return e.value;
+            }
+            v = mappingFunction.apply(key);
+            if (v != null) {
+                insert(s, h, key, v);
+            }
+            return v;
+        } finally {
+            s.unlock();
+        }
+    }
+
+    /**
+     * Atomically maps key to value if absent, otherwise to
+     * remappingFunction(oldValue, value). A null result removes the entry.
+     * Returns the new value, or null if the entry was removed.
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        checkValue(value);
+        if (remappingFunction == null) {
+            throw new IllegalArgumentException("remappingFunction cannot be null");
+        }
+        int h = hash(key);
+        Segment<K, V> s = segmentFor(h);
+        s.lock();
+        try {
+            Node<K, V> e = find(s, h, key);
+            if (e == null) {
+                insert(s, h, key, value);
+                return value;
+            }
+            V merged = remappingFunction.apply(e.value, value);
+            if (merged == null) {
+                unlink(s, h, key);
+            } else {
+                e.value = merged;
+            }
+            return merged;
+        } finally {
+            s.unlock();
+        }
+    }
+
+    /** Removes all entries, one segment at a time. */
+    public void clear() {
+        for (Segment<K, V> s : segments) {
+            s.lock();
+            try {
+                s.setTable(new AtomicReferenceArray<>(s.table.length()));
+                s.count = 0;
+            } finally {
+                s.unlock();
+            }
+        }
+    }
+
+    /**
+     * Calls action for every entry. Traversal does not lock and is weakly
+     * consistent: it reflects some state of each segment at or after the call.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        for (Segment<K, V> s : segments) {
+            AtomicReferenceArray<Node<K, V>> tab = s.table;
+            for (int i = 0; i < tab.length(); i++) {
+                for (Node<K, V> e = tab.get(i); e != null; e = e.next) {
+                    action.accept(e.key, e.value);
+                }
+            }
+        }
+    }
+
+    /** Lock-free read of the current table of the segment owning h. */
+    private V lookup(int h, K key) {
+        Segment<K, V> s = segmentFor(h);
+        AtomicReferenceArray<Node<K, V>> tab = s.table;
+        for (Node<K, V> e = tab.get(bucketIndex(h, tab)); e != null; e = e.next) {
+            if (e.hash == h && key.equals(e.key)) {
+                return e.value;
+            }
+        }
+        return null;
+    }
+
+    /** Finds the node for key in s; caller holds the segment lock. */
+    private Node<K, V> find(Segment<K, V> s, int h, K key) {
+        AtomicReferenceArray<Node<K, V>> tab = s.table;
+        for (Node<K, V> e = tab.get(bucketIndex(h, tab)); e != null; e = e.next) {
+            if (e.hash == h && key.equals(e.key)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /** Adds a new node at the head of its chain; caller holds the segment lock. */
+    private void insert(Segment<K, V> s, int h, K key, V value) {
+        if (s.count + 1 > s.threshold) {
+            rehash(s);
+        }
+        AtomicReferenceArray<Node<K, V>> tab = s.table;
+        int i = bucketIndex(h, tab);
+        tab.set(i, new Node<>(h, key, value, tab.get(i)));
+        s.count = s.count + 1;
+    }
+
+    /**
+     * Removes key from s by copying the chain prefix in front of it, since
+     * links are immutable; caller holds the segment lock.
+     */
+    private V unlink(Segment<K, V> s, int h, K key) {
+        AtomicReferenceArray<Node<K, V>> tab = s.table;
+        int i = bucketIndex(h, tab);
+        Node<K, V> first = tab.get(i);
+        Node<K, V> e = first;
+        while (e != null && !(e.hash == h && key.equals(e.key))) {
+            e = e.next;
+        }
+        if (e == null) {
+            return null;
+        }
+        Node<K, V> rest = e.next;
+        for (Node<K, V> p = first; p != e; p = p.next) {
+            rest = new Node<>(p.hash, p.key, p.value, rest);
+        }
+        tab.set(i, rest);
+        s.count = s.count - 1;
+        return e.value;
+    }
+
+    /**
+     * Doubles the table of one segment. The new table is filled privately and
+     * then published, so concurrent readers never wait on a resize.
+     */
+    private void rehash(Segment<K, V> s) {
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+        AtomicReferenceArray<Node<K, V>> oldTab = s.table;
+        int newCapacity = HashUtil.grow(oldTab.length(), "MyConcurrentHashMap segment");
+        AtomicReferenceArray<Node<K, V>> newTab = new AtomicReferenceArray<>(newCapacity);
+        int newShift = HashUtil.shiftFor(newCapacity);
+
+        for (int i = 0; i < oldTab.length(); i++) {
+            for (Node<K, V> e = oldTab.get(i); e != null; e = e.next) {
+                int j = Integer.rotateLeft(e.hash, segmentBits) >>> newShift;
+                newTab.lazySet(j, new Node<>(e.hash, e.key, e.value, newTab.get(j)));
+            }
+        }
+        s.setTable(newTab); // volatile write publishes every slot above
+
+        if (event.shouldCommit()) {
+            event.structure = "MyConcurrentHashMap segment";
+            event.oldCapacity = oldTab.length();
+            event.newCapacity = newCapacity;
+            event.entries = s.count;
+            event.commit();
+        }
+    }
+
+    private Segment<K, V> segmentFor(int h) {
+        return segments[segmentBits == 0 ? 0 : h >>> segmentShift];
+    }
+
+    /** Bucket index from the hash bits just below the ones that chose the segment. */
+    private int bucketIndex(int h, AtomicReferenceArray<Node<K, V>> tab) {
+        return Integer.rotateLeft(h, segmentBits) >>> HashUtil.shiftFor(tab.length());
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        int h = key.hashCode();
+        return HashUtil.mix(h ^ (h >>> 16));
+    }
+
+    private static void checkValue(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+    }
+}
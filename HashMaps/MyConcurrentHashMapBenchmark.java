@@ -0,0 +1,106 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Simple throughput harness comparing MyConcurrentHashMap against
+ * java.util.concurrent.ConcurrentHashMap under read-heavy (90% get) and
+ * write-heavy (50% get) mixes, doubling the thread count up to the number of
+ * available cores. Run with: java MyConcurrentHashMapBenchmark [keys] [millis]
+ */
+public class MyConcurrentHashMapBenchmark {
+
+    /** One map operation: returns true if the key was present. */
+    private interface MapOps {
+        boolean get(Integer key);
+
+        void put(Integer key);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int keys = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000;
+        long millis = (args.length > 1) ? Long.parseLong(args[1]) : 1_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int readPercent : new int[] {90, 50}) {
+            System.out.printf("--- %d%% reads, %d keys ---%n", readPercent, keys);
+            for (int threads = 1; threads <= cores; threads <<= 1) {
+                MyConcurrentHashMap<Integer, Integer> mine = new MyConcurrentHashMap<>();
+                ConcurrentHashMap<Integer, Integer> jdk = new ConcurrentHashMap<>();
+                for (int i = 0; i < keys; i++) {
+                    mine.put(i, i);
+                    jdk.put(i, i);
+                }
+                MapOps mineOps = new MapOps() {
+                    public boolean get(Integer key) {
+                        return mine.get(key) != null;
+                    }
+
+                    public void put(Integer key) {
+                        mine.put(key, key);
+                    }
+                };
+                MapOps jdkOps = new MapOps() {
+                    public boolean get(Integer key) {
+                        return jdk.get(key) != null;
+                    }
+
+                    public void put(Integer key) {
+                        jdk.put(key, key);
+                    }
+                };
+                run(mineOps, keys, readPercent, threads, millis / 2); // warm-up
+                run(jdkOps, keys, readPercent, threads, millis / 2);
+                double a = run(mineOps, keys, readPercent, threads, millis);
+                double b = run(jdkOps, keys, readPercent, threads, millis);
+                System.out.printf("threads %2d  MyConcurrentHashMap %8.2f Mops/s  ConcurrentHashMap %8.2f Mops/s%n",
+                        threads, a, b);
+            }
+        }
+    }
+
+    /** Runs the mix on the given number of threads for millis and returns million ops per second. */
+    private static double run(MapOps ops, int keys, int readPercent, int threads, long millis)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        long[] counts = new long[threads];
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                long ops0 = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long deadline = System.nanoTime() + millis * 1_000_000L;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 256; i++) {
+                        Integer key = rnd.nextInt(keys);
+                        if (rnd.nextInt(100) < readPercent) ops.get(key);
+                        else ops.put(key);
+                    }
+                    ops0 += 256;
+                }
+                counts[index] = ops0;
+            });
+            workers[t].start();
+        }
+        long t0 = System.nanoTime();
+        start.countDown();
+        for (Thread w : workers) w.join();
+        long elapsed = System.nanoTime() - t0;
+
+        long total = 0;
+        for (long c : counts) total += c;
+        return total * 1_000.0 / elapsed;
+    }
+}
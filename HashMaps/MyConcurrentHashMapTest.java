@@ -0,0 +1,162 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the lock-striped MyConcurrentHashMap
+ */
+class MyConcurrentHashMapTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void newMap_startsEmpty() {
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get("a"));
+    }
+
+    @Test
+    void constructor_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentHashMap<String, Integer>(16, 0.75f, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentHashMap<String, Integer>(-1, 0.75f, 4));
+    }
+
+    @Test
+    void nullKeyOrValue_throws() {
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.put("a", null));
+        assertThrows(IllegalArgumentException.class, () -> map.get(null));
+    }
+
+    @Test
+    void singleThreaded_basicOperations() {
+        MyConcurrentHashMap<Integer, String> map = new MyConcurrentHashMap<>(0, 0.75f, 1);
+        for (int i = 0; i < 1_000; i++) assertNull(map.put(i, "v" + i));
+
+        assertEquals(1_000, map.size());
+        assertEquals("v7", map.put(7, "seven"));
+        assertEquals("seven", map.get(7));
+        assertEquals("v8", map.putIfAbsent(8, "eight"));
+        assertEquals("v9", map.remove(9));
+        assertNull(map.remove(9));
+        assertFalse(map.containsKey(9));
+        assertEquals(999, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void merge_nullResult_removesEntry() {
+        MyConcurrentHashMap<String, Integer> map = new MyConcurrentHashMap<>();
+        assertEquals(1, map.merge("a", 1, Integer::sum));
+        assertEquals(3, map.merge("a", 2, Integer::sum));
+        assertNull(map.merge("a", 0, (a, b) -> null));
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    void forEach_visitsEveryEntry() {
+        MyConcurrentHashMap<Integer, Integer> map = new MyConcurrentHashMap<>();
+        for (int i = 0; i < 500; i++) map.put(i, i);
+
+        Map<Integer, Integer> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(500, seen.size());
+    }
+
+    @Test
+    void concurrentMerge_countsEveryIncrement() throws Exception {
+        MyConcurrentHashMap<Integer, Integer> map = new MyConcurrentHashMap<>();
+        runConcurrently(t -> {
+            for (int i = 0; i < 20_000; i++) map.merge(i % 100, 1, Integer::sum);
+        });
+
+        for (int k = 0; k < 100; k++) assertEquals(THREADS * 200, map.get(k));
+    }
+
+    @Test
+    void concurrentComputeIfAbsent_runsFunctionOncePerKey() throws Exception {
+        MyConcurrentHashMap<Integer, Integer> map = new MyConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        runConcurrently(t -> {
+            for (int i = 0; i < 5_000; i++) {
+                map.computeIfAbsent(i, k -> {
+                    calls.incrementAndGet();
+                    return k * 2;
+                });
+            }
+        });
+
+        assertEquals(5_000, calls.get());
+        assertEquals(5_000, map.size());
+        for (int i = 0; i < 5_000; i++) assertEquals(i * 2, map.get(i));
+    }
+
+    @Test
+    void readersDuringResize_alwaysSeeInsertedKeys() throws Exception {
+        MyConcurrentHashMap<Integer, Integer> map = new MyConcurrentHashMap<>(0, 0.75f, 4);
+        for (int i = 0; i < 64; i++) map.put(i, i);
+
+        AtomicInteger misses = new AtomicInteger();
+        runConcurrently(t -> {
+            if (t == 0) {
+                for (int i = 64; i < 200_000; i++) map.put(i, i); // forces many segment resizes
+            } else {
+                for (int round = 0; round < 2_000; round++) {
+                    for (int i = 0; i < 64; i++) {
+                        if (!Integer.valueOf(i).equals(map.get(i))) misses.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertEquals(0, misses.get());
+        assertEquals(200_000, map.size());
+    }
+
+    /** Runs task on THREADS threads at once, passing each its index, and rethrows any failure. */
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int index = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+        if (!failures.isEmpty()) throw new AssertionError(failures.get(0));
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int threadIndex) throws Exception;
+    }
+}
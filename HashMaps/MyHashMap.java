@@ -0,0 +1,305 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import com.sophiapriola.dstoolkit.metrics.Counters;
+import com.sophiapriola.dstoolkit.metrics.ResizeEvent;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a generic hash map using open addressing with
+ * Robin Hood linear probing. Keys, values and cached hashes are kept in flat
+ * parallel arrays, so there is no per-entry node object. On insert, an entry
+ * that is further from its home slot than the resident one takes the slot
+ * ("steals from the rich"), which keeps probe sequences short and lets a
+ * lookup stop as soon as it meets an entry closer to home than itself.
+ * Removal uses backward-shift deletion, so the table never holds tombstones.
+ */
+public class MyHashMap<K, V> {
+
+    // metric counter indexes
+    private static final int LOOKUPS = 0;
+    private static final int PROBES = 1;
+    private static final int MAX_PROBE_LENGTH = 2;
+    private static final int RESIZES = 3;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int shift;     // 32 - log2(capacity); home slot = hash >>> shift
+    private int threshold;
+    private int size;
+    private final float loadFactor;
+    private Counters metrics; // null until enableMetrics is called
+
+    /** Creates an empty map with the default capacity and load factor. */
+    public MyHashMap() {
+        this(HashUtil.DEFAULT_EXPECTED_SIZE, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    /** Creates an empty map sized to hold expectedSize entries without resizing. */
+    public MyHashMap(int expectedSize) {
+        this(expectedSize, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map sized to hold expectedSize entries without resizing.
+     * loadFactor must be in (0, 1); Robin Hood probing stays fast up to about 0.9.
+     */
+    public MyHashMap(int expectedSize, float loadFactor) {
+        HashUtil.checkArguments(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(HashUtil.tableSizeFor(expectedSize, loadFactor));
+    }
+
+    /** Returns the number of entries in the map. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the map has no entries. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Starts counting lookups, the slots they probe, the longest probe seen and
+     * resizes, and returns the live counters. probes / lookups is the mean
+     * probe length. Until this is called the map pays only a null check per
+     * operation.
+     */
+    public StructureMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new Counters("MyHashMap", "lookups", "probes", "maxProbeLength", "resizes");
+        }
+        return metrics;
+    }
+
+    /** Returns true if the map contains an entry for key. */
+    public boolean containsKey(K key) {
+        return indexOf(key) >= 0;
+    }
+
+    /** Returns the value mapped to key, or null if there is none. */
+    public V get(K key) {
+        int i = indexOf(key);
+        return (i < 0) ? null : valueAt(i);
+    }
+
+    /** Returns the value mapped to key, or defaultValue if there is none. */
+    public V getOrDefault(K key, V defaultValue) {
+        int i = indexOf(key);
+        return (i < 0) ? defaultValue : valueAt(i);
+    }
+
+    /** Maps key to value and returns the previous value, or null if there was none. */
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        int h = hash(key);
+        int mask = keys.length - 1;
+        int i = h >>> shift;
+
+        for (int dist = 0; ; dist++, i = (i + 1) & mask) {
+            Object k = keys[i];
+            if (k == null) {
+                keys[i] = key;
+                values[i] = value;
+                hashes[i] = h;
+                if (metrics != null) recordProbe(dist + 1);
+                break;
+            }
+            int kh = hashes[i];
+            if (kh == h && key.equals(k)) {
+                if (metrics != null) recordProbe(dist + 1);
+                V old = valueAt(i);
+                values[i] = value;
+                return old;
+            }
+            if (probeDistance(kh, i, mask) < dist) {
+                // Robin Hood invariant: key cannot appear past this slot, so
+                // take the slot and carry the displaced entry forward.
+                if (metrics != null) recordProbe(dist + 1);
+                insertFrom(i, dist, key, value, h);
+                break;
+            }
+        }
+
+        if (++size > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    /** Removes the entry for key and returns its value, or null if there was none. */
+    public V remove(K key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = valueAt(i);
+
+        // backward-shift: pull each following displaced entry one slot closer to home
+        int mask = keys.length - 1;
+        int next = (i + 1) & mask;
+        while (keys[next] != null && probeDistance(hashes[next], next, mask) > 0) {
+            keys[i] = keys[next];
+            values[i] = values[next];
+            hashes[i] = hashes[next];
+            i = next;
+            next = (next + 1) & mask;
+        }
+        keys[i] = null;
+        values[i] = null;
+        hashes[i] = 0;
+
+        size--;
+        return old;
+    }
+
+    /** Removes all entries, keeping the current capacity. */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        Arrays.fill(hashes, 0);
+        size = 0;
+    }
+
+    /** Calls action for every entry, in table order, without allocating an iterator. */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        Object[] ks = keys;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != null) {
+                action.accept(keyAt(i), valueAt(i));
+            }
+        }
+    }
+
+    /** Returns the slot holding key, or -1 if it is absent. */
+    private int indexOf(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        int h = hash(key);
+        int mask = keys.length - 1;
+        int i = h >>> shift;
+
+        for (int dist = 0; ; dist++, i = (i + 1) & mask) {
+            Object k = keys[i];
+            if (k == null) {
+                if (metrics != null) recordProbe(dist + 1);
+                return -1;
+            }
+            int kh = hashes[i];
+            if (kh == h && key.equals(k)) {
+                if (metrics != null) recordProbe(dist + 1);
+                return i;
+            }
+            if (probeDistance(kh, i, mask) < dist) {
+                if (metrics != null) recordProbe(dist + 1);
+                return -1; // key would have displaced this entry
+            }
+        }
+    }
+
+    /**
+     * Places an entry known to be absent starting at slot i, where it already
+     * sits dist slots from home, displacing richer entries as it goes.
+     */
+    private void insertFrom(int i, int dist, Object key, Object value, int h) {
+        int mask = keys.length - 1;
+        while (true) {
+            Object k = keys[i];
+            if (k == null) {
+                keys[i] = key;
+                values[i] = value;
+                hashes[i] = h;
+                return;
+            }
+            int kh = hashes[i];
+            int kDist = probeDistance(kh, i, mask);
+            if (kDist < dist) {
+                Object v = values[i];
+                keys[i] = key;
+                values[i] = value;
+                hashes[i] = h;
+                key = k;
+                value = v;
+                h = kh;
+                dist = kDist;
+            }
+            i = (i + 1) & mask;
+            dist++;
+        }
+    }
+
+    /** Records one lookup that examined length slots. */
+    private void recordProbe(int length) {
+        metrics.increment(LOOKUPS);
+        metrics.add(PROBES, length);
+        metrics.max(MAX_PROBE_LENGTH, length);
+    }
+
+    /** Doubles the table and re-inserts every entry. */
+    private void resize() {
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        allocate(HashUtil.grow(oldKeys.length, "MyHashMap"));
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int h = oldHashes[i];
+                insertFrom(h >>> shift, 0, oldKeys[i], oldValues[i], h);
+            }
+        }
+
+        if (metrics != null) metrics.increment(RESIZES);
+        if (event.shouldCommit()) {
+            event.structure = "MyHashMap";
+            event.oldCapacity = oldKeys.length;
+            event.newCapacity = keys.length;
+            event.entries = size;
+            event.commit();
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        shift = HashUtil.shiftFor(capacity);
+        threshold = HashUtil.thresholdFor(capacity, loadFactor);
+    }
+
+    /** Number of slots between i and the home slot of an entry with hash h. */
+    private int probeDistance(int h, int i, int mask) {
+        return (i - (h >>> shift)) & mask;
+    }
+
+    /** Spreads hashCode so that the high bits, used for the home slot, depend on all input bits. */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return HashUtil.mix(h ^ (h >>> 16));
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int i) {
+        return (K) keys[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int i) {
+        return (V) values[i];
+    }
+}
@@ -0,0 +1,74 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Simple timing harness comparing MyHashMap against java.util.HashMap for
+ * put, get (hit and miss) and remove. Run with: java MyHashMapBenchmark [entries]
+ */
+public class MyHashMapBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        Integer[] hits = new Integer[n];
+        Integer[] misses = new Integer[n];
+        Random rnd = new Random(42);
+        for (int i = 0; i < n; i++) {
+            int k = rnd.nextInt() & ~1;
+            hits[i] = k;      // even keys are inserted
+            misses[i] = k | 1; // odd keys never are
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean report = round == ROUNDS - 1; // earlier rounds are JIT warm-up
+            runMyHashMap(hits, misses, report);
+            runJavaUtil(hits, misses, report);
+        }
+    }
+
+    private static void runMyHashMap(Integer[] hits, Integer[] misses, boolean report) {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        long sink = 0;
+
+        long t0 = System.nanoTime();
+        for (Integer k : hits) map.put(k, k);
+        long t1 = System.nanoTime();
+        for (Integer k : hits) sink += map.get(k);
+        long t2 = System.nanoTime();
+        for (Integer k : misses) if (map.get(k) != null) sink++;
+        long t3 = System.nanoTime();
+        for (Integer k : hits) if (map.remove(k) != null) sink++;
+        long t4 = System.nanoTime();
+
+        if (report) print("MyHashMap", hits.length, t0, t1, t2, t3, t4, sink);
+    }
+
+    private static void runJavaUtil(Integer[] hits, Integer[] misses, boolean report) {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        long sink = 0;
+
+        long t0 = System.nanoTime();
+        for (Integer k : hits) map.put(k, k);
+        long t1 = System.nanoTime();
+        for (Integer k : hits) sink += map.get(k);
+        long t2 = System.nanoTime();
+        for (Integer k : misses) if (map.get(k) != null) sink++;
+        long t3 = System.nanoTime();
+        for (Integer k : hits) if (map.remove(k) != null) sink++;
+        long t4 = System.nanoTime();
+
+        if (report) print("java.util.HashMap", hits.length, t0, t1, t2, t3, t4, sink);
+    }
+
+    private static void print(String name, int n, long t0, long t1, long t2, long t3, long t4, long sink) {
+        System.out.printf("%-18s put %6.1f  getHit %6.1f  getMiss %6.1f  remove %6.1f  ns/op  (%d)%n",
+                name, (t1 - t0) / (double) n, (t2 - t1) / (double) n,
+                (t3 - t2) / (double) n, (t4 - t3) / (double) n, sink);
+    }
+}
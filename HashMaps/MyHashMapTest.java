@@ -0,0 +1,195 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import com.sophiapriola.dstoolkit.metrics.ResizeEvent;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the open-addressing MyHashMap
+ */
+class MyHashMapTest {
+
+    @Test
+    void newMap_startsEmpty() {
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get("missing"));
+    }
+
+    @Test
+    void constructor_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new MyHashMap<String, Integer>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashMap<String, Integer>(16, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashMap<String, Integer>(16, 1f));
+    }
+
+    @Test
+    void nullKey_throws() {
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.get(null));
+        assertThrows(IllegalArgumentException.class, () -> map.remove(null));
+    }
+
+    @Test
+    void put_andGet_work() {
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+
+        assertEquals(2, map.size());
+        assertEquals(1, map.get("a"));
+        assertEquals(2, map.get("b"));
+        assertTrue(map.containsKey("a"));
+        assertFalse(map.containsKey("c"));
+        assertEquals(-1, map.getOrDefault("c", -1));
+    }
+
+    @Test
+    void put_existingKey_replacesValue_sizeUnchanged() {
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        map.put("a", 1);
+
+        assertEquals(1, map.put("a", 10));
+        assertEquals(1, map.size());
+        assertEquals(10, map.get("a"));
+    }
+
+    @Test
+    void remove_returnsValue_andLeavesOthersReachable() {
+        MyHashMap<Integer, String> map = new MyHashMap<>(4);
+        for (int i = 0; i < 100; i++) map.put(i, "v" + i);
+
+        assertEquals("v42", map.remove(42));
+        assertNull(map.remove(42));
+        assertEquals(99, map.size());
+
+        for (int i = 0; i < 100; i++) {
+            if (i == 42) assertFalse(map.containsKey(i));
+            else assertEquals("v" + i, map.get(i));
+        }
+    }
+
+    @Test
+    void collidingKeys_survivePutAndRemove() {
+        // all keys share one hashCode, so every entry lands in the same probe run
+        MyHashMap<Collider, Integer> map = new MyHashMap<>();
+        for (int i = 0; i < 50; i++) map.put(new Collider(i), i);
+
+        for (int i = 0; i < 50; i += 2) assertEquals(i, map.remove(new Collider(i)));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(new Collider(i)));
+        }
+    }
+
+    @Test
+    void highLoadFactor_growsAndKeepsEntries() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>(0, 0.95f);
+        for (int i = 0; i < 10_000; i++) map.put(i, i * 2);
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) assertEquals(i * 2, map.get(i));
+    }
+
+    @Test
+    void clear_removesEverything() {
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+    }
+
+    @Test
+    void forEach_visitsEveryEntryOnce() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        for (int i = 0; i < 20; i++) map.put(i, i);
+
+        Map<Integer, Integer> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(20, seen.size());
+        seen.forEach((k, v) -> assertEquals(k, v));
+    }
+
+    @Test
+    void randomOperations_matchJavaUtilHashMap() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random rnd = new Random(26);
+
+        for (int step = 0; step < 50_000; step++) {
+            int key = rnd.nextInt(2_000);
+            switch (rnd.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key, step), map.put(key, step));
+                case 1 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+    }
+
+    /** Key type whose instances all hash to the same bucket. */
+    private record Collider(int id) {
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+
+    @Test
+    void enableMetrics_countsProbesAndResizes() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>(4);
+        StructureMetrics metrics = map.enableMetrics();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, map.get(i));
+        }
+
+        Map<String, Long> snapshot = metrics.snapshot();
+        assertEquals(2000L, snapshot.get("lookups"));
+        assertTrue(snapshot.get("probes") >= 2000L);
+        assertTrue(snapshot.get("maxProbeLength") >= 1L);
+        assertTrue(snapshot.get("resizes") > 0L);
+    }
+
+    @Test
+    void resize_emitsJfrEventWhileRecording() throws Exception {
+        Path dump = Files.createTempFile("resize", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ResizeEvent.class);
+            recording.start();
+            MyHashMap<Integer, Integer> map = new MyHashMap<>(4);
+            for (int i = 0; i < 100; i++) {
+                map.put(i, i);
+            }
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            assertTrue(events.stream().anyMatch(e -> "MyHashMap".equals(e.getString("structure"))
+                    && e.getLong("newCapacity") > e.getLong("oldCapacity")));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
@@ -0,0 +1,602 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+import com.sophiapriola.dstoolkit.metrics.ResizeEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a hash map whose keys and values live outside the
+ * Java heap, so a large table adds nothing to GC pause times. Entries are
+ * serialized with a pluggable ElementCodec and appended to fixed-size chunks
+ * of direct memory or of a memory-mapped data file. A separate open-addressing
+ * index (linear probing, backward-shift deletion) maps each key's hash to the
+ * entry's address; keys are compared byte for byte in place.
+ *
+ * A file-backed map keeps its index in one mapped file and its entries in a
+ * sibling ".data" file. Reopening only maps the files again, so a persisted
+ * table is usable at once without being rebuilt.
+ *
+ * Values whose new form fits in the old space are overwritten in place;
+ * otherwise the old entry becomes dead space that is not reused. The map is
+ * not thread-safe and is not crash-consistent: call flush or close before
+ * relying on the files.
+ */
+public class OffHeapHashMap<K, V> implements AutoCloseable {
+
+    private static final int MAGIC = 0x4F484D31; // "OHM1"
+    private static final int VERSION = 1;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 26; // 64 MB
+
+    // index header: magic, version, capacity, size, data tail, chunk size, dead bytes
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_CAPACITY = 8;
+    private static final int H_SIZE = 12;
+    private static final int H_TAIL = 16;
+    private static final int H_CHUNK_SIZE = 24;
+    private static final int H_DEAD_BYTES = 32;
+    private static final int HEADER_BYTES = 64;
+
+    // index slot: entry address + 1 (0 = empty), then the key hash
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_CAPACITY = Integer.highestOneBit((Integer.MAX_VALUE - HEADER_BYTES) / SLOT_BYTES);
+
+    // entry: key length, value length, value capacity, key bytes, value bytes
+    private static final int ENTRY_HEADER = 12;
+
+    private final ElementCodec<K> keyCodec;
+    private final ElementCodec<V> valueCodec;
+    private final FileChannel indexChannel; // null for direct memory
+    private final FileChannel dataChannel;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final int chunkShift;
+    private final long chunkMask;
+
+    private ByteBuffer index;
+    private int capacity;
+    private int shift;
+    private int threshold;
+    private int size;
+    private long tail;
+    private long deadBytes;
+    private ByteBuffer scratch = ByteBuffer.allocate(64); // last key looked up, serialized
+    private int scratchHash;
+    private boolean closed;
+
+    private OffHeapHashMap(ElementCodec<K> keyCodec, ElementCodec<V> valueCodec,
+                           FileChannel indexChannel, FileChannel dataChannel, int chunkSize) {
+        if (keyCodec == null || valueCodec == null) {
+            throw new IllegalArgumentException("codecs cannot be null");
+        }
+        if (chunkSize < 4096 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("chunkSize must be a power of two of at least 4096");
+        }
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.indexChannel = indexChannel;
+        this.dataChannel = dataChannel;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+    }
+
+    /** Creates a map in direct (off-heap, non-persistent) memory with 64 MB chunks. */
+    public static <K, V> OffHeapHashMap<K, V> allocateDirect(ElementCodec<K> keyCodec,
+                                                             ElementCodec<V> valueCodec, int expectedSize) {
+        return allocateDirect(keyCodec, valueCodec, expectedSize, DEFAULT_CHUNK_SIZE);
+    }
+
+    /** Creates a map in direct memory; chunkSize bounds the size of one entry. */
+    public static <K, V> OffHeapHashMap<K, V> allocateDirect(ElementCodec<K> keyCodec,
+                                                             ElementCodec<V> valueCodec,
+                                                             int expectedSize, int chunkSize) {
+        OffHeapHashMap<K, V> map = new OffHeapHashMap<>(keyCodec, valueCodec, null, null, chunkSize);
+        int cap = capacityFor(expectedSize);
+        map.initIndex(map.newIndex(cap), cap);
+        return map;
+    }
+
+    /**
+     * Opens the map persisted at indexFile, or creates it there (with 64 MB
+     * chunks) if the file does not exist or is empty.
+     */
+    public static <K, V> OffHeapHashMap<K, V> open(Path indexFile, ElementCodec<K> keyCodec,
+                                                   ElementCodec<V> valueCodec) throws IOException {
+        return open(indexFile, keyCodec, valueCodec, HashUtil.DEFAULT_EXPECTED_SIZE, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Opens the map persisted at indexFile, or creates it there sized for
+     * expectedSize entries. For an existing map, the stored chunk size is used
+     * and expectedSize and chunkSize are ignored.
+     */
+    public static <K, V> OffHeapHashMap<K, V> open(Path indexFile, ElementCodec<K> keyCodec,
+                                                   ElementCodec<V> valueCodec,
+                                                   int expectedSize, int chunkSize) throws IOException {
+        Path dataFile = indexFile.resolveSibling(indexFile.getFileName() + ".data");
+        boolean exists = Files.exists(indexFile) && Files.size(indexFile) >= HEADER_BYTES;
+
+        FileChannel indexChannel = FileChannel.open(indexFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel dataChannel = FileChannel.open(dataFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (!exists) {
+                OffHeapHashMap<K, V> map = new OffHeapHashMap<>(keyCodec, valueCodec,
+                        indexChannel, dataChannel, chunkSize);
+                int cap = capacityFor(expectedSize);
+                map.initIndex(map.newIndex(cap), cap);
+                return map;
+            }
+
+            ByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt(H_MAGIC) != MAGIC || header.getInt(H_VERSION) != VERSION) {
+                throw new IOException(indexFile + " is not an OffHeapHashMap index");
+            }
+            checkHeader(indexFile, header, indexChannel.size(), dataChannel.size());
+            OffHeapHashMap<K, V> map = new OffHeapHashMap<>(keyCodec, valueCodec,
+                    indexChannel, dataChannel, header.getInt(H_CHUNK_SIZE));
+            int cap = header.getInt(H_CAPACITY);
+            map.index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexBytes(cap));
+            map.setCapacity(cap);
+            map.size = map.index.getInt(H_SIZE);
+            map.tail = map.index.getLong(H_TAIL);
+            map.deadBytes = map.index.getLong(H_DEAD_BYTES);
+            return map;
+        } catch (IOException | RuntimeException e) {
+            indexChannel.close();
+            dataChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks a stored header against itself and the file lengths, so a
+     * truncated or damaged file fails here instead of on a later access.
+     * Both files only ever grow: the index to exactly the header plus its
+     * slots, and the data file by whole chunks up to the one holding the tail.
+     */
+    private static void checkHeader(Path indexFile, ByteBuffer header,
+                                    long indexLength, long dataLength) throws IOException {
+        int cap = header.getInt(H_CAPACITY);
+        int size = header.getInt(H_SIZE);
+        long tail = header.getLong(H_TAIL);
+        int chunkSize = header.getInt(H_CHUNK_SIZE);
+        long deadBytes = header.getLong(H_DEAD_BYTES);
+        if (cap < 2 || cap > MAX_CAPACITY || Integer.bitCount(cap) != 1) {
+            throw new IOException(indexFile + ": corrupt header, bad capacity " + cap);
+        }
+        if (indexLength != indexBytes(cap)) {
+            throw new IOException(indexFile + ": index is " + indexLength + " bytes, expected "
+                    + indexBytes(cap) + " for " + cap + " slots");
+        }
+        if (chunkSize < 4096 || Integer.bitCount(chunkSize) != 1) {
+            throw new IOException(indexFile + ": corrupt header, bad chunk size " + chunkSize);
+        }
+        if (size < 0 || size >= cap || tail < 0 || deadBytes < 0 || deadBytes > tail) {
+            throw new IOException(indexFile + ": corrupt header, size " + size + ", tail " + tail
+                    + ", dead bytes " + deadBytes);
+        }
+        long mapped = (tail + chunkSize - 1) / chunkSize * chunkSize;
+        if (dataLength % chunkSize != 0 || dataLength < mapped) {
+            throw new IOException(indexFile + ": data file is " + dataLength + " bytes, expected whole "
+                    + chunkSize + "-byte chunks covering " + tail + " bytes");
+        }
+    }
+
+    /** Returns the number of entries in the map. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the map has no entries. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns the number of data bytes held by removed or relocated entries. */
+    public long deadBytes() {
+        return deadBytes;
+    }
+
+    /** Returns true if the map contains an entry for key. */
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0;
+    }
+
+    /** Returns a copy of the value mapped to key, or null if there is none. */
+    public V get(K key) {
+        ByteBuffer view = getValueView(key);
+        return (view == null) ? null : valueCodec.read(view);
+    }
+
+    /**
+     * Returns a read-only view of the serialized value for key, or null if
+     * there is none. The view reads the off-heap bytes directly, with no copy,
+     * and is only valid until the next put or remove of that key.
+     */
+    public ByteBuffer getValueView(K key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        long address = slotAddress(slot);
+        ByteBuffer chunk = chunkFor(address);
+        int pos = offsetIn(address);
+        int keyLength = chunk.getInt(pos);
+        int valueLength = chunk.getInt(pos + 4);
+        return chunk.slice(pos + ENTRY_HEADER + keyLength, valueLength).asReadOnlyBuffer();
+    }
+
+    /** Maps key to value and returns true if key was not present before. */
+    public boolean put(K key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        int slot = findSlot(key); // leaves the serialized key in scratch
+        int keyLength = scratch.limit();
+        int valueLength = valueCodec.sizeOf(value);
+
+        if (slot >= 0) {
+            long address = slotAddress(slot);
+            ByteBuffer chunk = chunkFor(address);
+            int pos = offsetIn(address);
+            int valueCapacity = chunk.getInt(pos + 8);
+            if (valueLength <= valueCapacity) {
+                writeValue(chunk, pos + ENTRY_HEADER + keyLength, valueLength, value);
+                chunk.putInt(pos + 4, valueLength);
+                return false;
+            }
+            addDeadBytes(ENTRY_HEADER + keyLength + valueCapacity);
+            index.putLong(slotOffset(slot), appendEntry(keyLength, value, valueLength) + 1);
+            return false;
+        }
+
+        long address = appendEntry(keyLength, value, valueLength);
+        insertSlot(scratchHash, address);
+        setSize(size + 1);
+        if (size > threshold) {
+            resize();
+        }
+        return true;
+    }
+
+    /** Removes the entry for key and returns true if it was present. */
+    public boolean remove(K key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return false;
+        }
+        long address = slotAddress(slot);
+        ByteBuffer chunk = chunkFor(address);
+        int pos = offsetIn(address);
+        addDeadBytes(ENTRY_HEADER + chunk.getInt(pos) + chunk.getInt(pos + 8));
+
+        // backward-shift deletion over the index, using the stored hashes
+        int mask = capacity - 1;
+        int i = slot;
+        int j = slot;
+        while (true) {
+            j = (j + 1) & mask;
+            long stored = index.getLong(slotOffset(j));
+            if (stored == 0) {
+                break;
+            }
+            int h = index.getInt(slotOffset(j) + 8);
+            int home = HashUtil.mix(h) >>> shift;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                index.putLong(slotOffset(i), stored);
+                index.putInt(slotOffset(i) + 8, h);
+                i = j;
+            }
+        }
+        index.putLong(slotOffset(i), 0L);
+        index.putInt(slotOffset(i) + 8, 0);
+
+        setSize(size - 1);
+        return true;
+    }
+
+    /** Calls action with a deserialized copy of every entry. */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        checkOpen();
+        for (int slot = 0; slot < capacity; slot++) {
+            long stored = index.getLong(slotOffset(slot));
+            if (stored != 0) {
+                long address = stored - 1;
+                ByteBuffer chunk = chunkFor(address);
+                int pos = offsetIn(address);
+                int keyLength = chunk.getInt(pos);
+                int valueLength = chunk.getInt(pos + 4);
+                K key = keyCodec.read(chunk.slice(pos + ENTRY_HEADER, keyLength));
+                V value = valueCodec.read(chunk.slice(pos + ENTRY_HEADER + keyLength, valueLength));
+                action.accept(key, value);
+            }
+        }
+    }
+
+    /** Writes any modified mapped pages back to the files; a no-op for direct memory. */
+    public void flush() {
+        checkOpen();
+        if (indexChannel == null) {
+            return;
+        }
+        ((MappedByteBuffer) index).force();
+        for (ByteBuffer chunk : chunks) {
+            if (chunk != null) {
+                ((MappedByteBuffer) chunk).force();
+            }
+        }
+    }
+
+    /** Flushes a file-backed map and releases its files. The map cannot be used afterwards. */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        if (indexChannel != null) {
+            indexChannel.close();
+            dataChannel.close();
+        }
+        chunks.clear();
+        index = null;
+    }
+
+    /** Serializes and hashes key into scratch and returns its slot, or -1 if it is absent. */
+    private int findSlot(K key) {
+        checkOpen();
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        int keyLength = keyCodec.sizeOf(key);
+        if (scratch.capacity() < keyLength) {
+            scratch = ByteBuffer.allocate(Math.max(keyLength, scratch.capacity() * 2));
+        }
+        scratch.clear();
+        keyCodec.write(key, scratch);
+        if (scratch.position() != keyLength) {
+            throw new IllegalStateException("key codec wrote " + scratch.position()
+                    + " bytes but sizeOf reported " + keyLength);
+        }
+        scratch.flip();
+
+        int hash = hashBytes(scratch, keyLength);
+        scratchHash = hash;
+        int mask = capacity - 1;
+        int i = HashUtil.mix(hash) >>> shift;
+        long stored;
+        while ((stored = index.getLong(slotOffset(i))) != 0) {
+            if (index.getInt(slotOffset(i) + 8) == hash && keyEquals(stored - 1, keyLength)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** Compares the stored key at address with the first keyLength bytes of scratch. */
+    private boolean keyEquals(long address, int keyLength) {
+        ByteBuffer chunk = chunkFor(address);
+        int pos = offsetIn(address);
+        return chunk.getInt(pos) == keyLength
+                && chunk.slice(pos + ENTRY_HEADER, keyLength).mismatch(scratch) < 0;
+    }
+
+    /** Copies the key in scratch plus the serialized value into newly allocated data space. */
+    private long appendEntry(int keyLength, V value, int valueLength) {
+        int entryBytes = ENTRY_HEADER + keyLength + valueLength;
+        if (entryBytes > chunkMask + 1) {
+            throw new IllegalArgumentException("entry of " + entryBytes + " bytes does not fit in a chunk");
+        }
+        int room = (int) (chunkMask + 1 - (tail & chunkMask));
+        if (entryBytes > room) {
+            addDeadBytes(room); // entries never straddle chunks
+            tail += room;
+        }
+        long address = tail;
+        tail += entryBytes;
+        index.putLong(H_TAIL, tail);
+
+        ByteBuffer chunk = chunkFor(address);
+        int pos = offsetIn(address);
+        chunk.putInt(pos, keyLength);
+        chunk.putInt(pos + 4, valueLength);
+        chunk.putInt(pos + 8, valueLength);
+        chunk.put(pos + ENTRY_HEADER, scratch, 0, keyLength);
+        writeValue(chunk, pos + ENTRY_HEADER + keyLength, valueLength, value);
+        return address;
+    }
+
+    private void writeValue(ByteBuffer chunk, int pos, int valueLength, V value) {
+        ByteBuffer out = chunk.slice(pos, valueLength);
+        valueCodec.write(value, out);
+        if (out.position() != valueLength) {
+            throw new IllegalStateException("value codec wrote " + out.position()
+                    + " bytes but sizeOf reported " + valueLength);
+        }
+    }
+
+    /** Puts an address into the first free slot of hash's probe run. */
+    private void insertSlot(int hash, long address) {
+        int mask = capacity - 1;
+        int i = HashUtil.mix(hash) >>> shift;
+        while (index.getLong(slotOffset(i)) != 0) {
+            i = (i + 1) & mask;
+        }
+        index.putLong(slotOffset(i), address + 1);
+        index.putInt(slotOffset(i) + 8, hash);
+    }
+
+    /**
+     * Doubles the index. The old slots are copied aside first because a
+     * mapped index grows in place in the same file.
+     */
+    private void resize() {
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+        int oldCapacity = capacity;
+        ByteBuffer old = ByteBuffer.allocateDirect(oldCapacity * SLOT_BYTES);
+        old.put(0, index, HEADER_BYTES, oldCapacity * SLOT_BYTES);
+
+        int newCapacity = HashUtil.grow(oldCapacity, "OffHeapHashMap");
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("OffHeapHashMap cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        ByteBuffer grown = newIndex(newCapacity);
+        if (indexChannel != null) {
+            // same file: wipe the old slot region before re-inserting
+            for (int p = HEADER_BYTES; p < indexBytes(oldCapacity); p += 8) {
+                grown.putLong(p, 0L);
+            }
+        }
+        initIndex(grown, newCapacity);
+
+        for (int p = 0; p < oldCapacity * SLOT_BYTES; p += SLOT_BYTES) {
+            long stored = old.getLong(p);
+            if (stored != 0) {
+                insertSlot(old.getInt(p + 8), stored - 1);
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.structure = "OffHeapHashMap";
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.entries = size;
+            event.commit();
+        }
+    }
+
+    /** Allocates or maps an index buffer for capacity slots. */
+    private ByteBuffer newIndex(int slots) {
+        long bytes = indexBytes(slots);
+        if (indexChannel == null) {
+            return ByteBuffer.allocateDirect((int) bytes);
+        }
+        try {
+            return indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("could not map index", e);
+        }
+    }
+
+    /** Installs a fresh index and writes the full header. */
+    private void initIndex(ByteBuffer newIndex, int slots) {
+        index = newIndex;
+        setCapacity(slots);
+        index.putInt(H_MAGIC, MAGIC);
+        index.putInt(H_VERSION, VERSION);
+        index.putInt(H_CAPACITY, slots);
+        index.putInt(H_SIZE, size);
+        index.putLong(H_TAIL, tail);
+        index.putInt(H_CHUNK_SIZE, (int) (chunkMask + 1));
+        index.putLong(H_DEAD_BYTES, deadBytes);
+    }
+
+    private void setCapacity(int slots) {
+        capacity = slots;
+        shift = HashUtil.shiftFor(slots);
+        threshold = HashUtil.thresholdFor(slots, HashUtil.DEFAULT_LOAD_FACTOR);
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        index.putInt(H_SIZE, newSize);
+    }
+
+    private void addDeadBytes(long bytes) {
+        deadBytes += bytes;
+        index.putLong(H_DEAD_BYTES, deadBytes);
+    }
+
+    /** Returns the chunk holding address, allocating or mapping it on first use. */
+    private ByteBuffer chunkFor(long address) {
+        int n = (int) (address >>> chunkShift);
+        while (chunks.size() <= n) {
+            chunks.add(null);
+        }
+        ByteBuffer chunk = chunks.get(n);
+        if (chunk == null) {
+            int chunkSize = (int) (chunkMask + 1);
+            if (dataChannel == null) {
+                chunk = ByteBuffer.allocateDirect(chunkSize);
+            } else {
+                try {
+                    chunk = dataChannel.map(FileChannel.MapMode.READ_WRITE, (long) n << chunkShift, chunkSize);
+                } catch (IOException e) {
+                    throw new IllegalStateException("could not map data chunk " + n, e);
+                }
+            }
+            chunks.set(n, chunk);
+        }
+        return chunk;
+    }
+
+    private int offsetIn(long address) {
+        return (int) (address & chunkMask);
+    }
+
+    private long slotAddress(int slot) {
+        return index.getLong(slotOffset(slot)) - 1;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("map is closed");
+        }
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static long indexBytes(int slots) {
+        return HEADER_BYTES + (long) slots * SLOT_BYTES;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        HashUtil.checkArguments(expectedSize, HashUtil.DEFAULT_LOAD_FACTOR);
+        int cap = HashUtil.tableSizeFor(expectedSize, HashUtil.DEFAULT_LOAD_FACTOR);
+        if (cap > MAX_CAPACITY) {
+            throw new IllegalArgumentException("expectedSize is too large for an off-heap index");
+        }
+        return cap;
+    }
+
+    /**
+     * Hashes serialized key bytes. Unlike hashCode this is stable across JVM
+     * runs, which a persisted index depends on.
+     */
+    private static int hashBytes(ByteBuffer bytes, int length) {
+        long h = 0x9E3779B97F4A7C15L ^ length;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            h = Long.rotateLeft(h ^ bytes.getLong(i), 27) * 0x9E3779B97F4A7C15L;
+        }
+        for (; i < length; i++) {
+            h = (h ^ bytes.get(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,199 @@
+package com.sophiapriola.dstoolkit.hashmap;
+
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for OffHeapHashMap in direct and memory-mapped modes
+ */
+class OffHeapHashMapTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void direct_putGetRemove_work() {
+        OffHeapHashMap<String, String> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.STRING, ElementCodec.STRING, 4);
+
+        assertTrue(map.put("alpha", "one"));
+        assertTrue(map.put("beta", "two"));
+        assertFalse(map.put("alpha", "uno"));
+
+        assertEquals(2, map.size());
+        assertEquals("uno", map.get("alpha"));
+        assertEquals("two", map.get("beta"));
+        assertNull(map.get("gamma"));
+
+        assertTrue(map.remove("alpha"));
+        assertFalse(map.remove("alpha"));
+        assertFalse(map.containsKey("alpha"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void nullArguments_throw() {
+        OffHeapHashMap<String, String> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.STRING, ElementCodec.STRING, 4);
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, "x"));
+        assertThrows(IllegalArgumentException.class, () -> map.put("x", null));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapHashMap.allocateDirect(
+                null, ElementCodec.STRING, 4));
+    }
+
+    @Test
+    void overwrite_reusesSpaceWhenValueFits() {
+        OffHeapHashMap<Integer, String> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.INT, ElementCodec.STRING, 4);
+        map.put(1, "longer value");
+        map.put(1, "short");
+        assertEquals(0, map.deadBytes());
+        assertEquals("short", map.get(1));
+
+        map.put(1, "a value longer than the first one");
+        assertTrue(map.deadBytes() > 0);
+        assertEquals("a value longer than the first one", map.get(1));
+    }
+
+    @Test
+    void valueView_readsWithoutCopying_andIsReadOnly() {
+        OffHeapHashMap<Integer, Long> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.INT, ElementCodec.LONG, 4);
+        map.put(7, 42L);
+
+        ByteBuffer view = map.getValueView(7);
+        assertEquals(Long.BYTES, view.remaining());
+        assertEquals(42L, view.getLong(0));
+        assertTrue(view.isReadOnly());
+        assertTrue(view.isDirect());
+        assertNull(map.getValueView(8));
+    }
+
+    @Test
+    void entriesSpanManyChunks_andIndexGrows() {
+        OffHeapHashMap<Integer, byte[]> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.INT, ElementCodec.BYTES, 0, 4096);
+        for (int i = 0; i < 2_000; i++) map.put(i, new byte[100 + i % 7]);
+
+        assertEquals(2_000, map.size());
+        for (int i = 0; i < 2_000; i++) assertEquals(100 + i % 7, map.get(i).length);
+    }
+
+    @Test
+    void entryLargerThanChunk_throws() {
+        OffHeapHashMap<Integer, byte[]> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.INT, ElementCodec.BYTES, 0, 4096);
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, new byte[5_000]));
+    }
+
+    @Test
+    void mapped_reopensPersistedTable() throws IOException {
+        Path file = dir.resolve("table.idx");
+        try (OffHeapHashMap<String, Integer> map = OffHeapHashMap.open(file,
+                ElementCodec.STRING, ElementCodec.INT, 0, 1 << 16)) {
+            for (int i = 0; i < 5_000; i++) map.put("key-" + i, i);
+            map.remove("key-10");
+        }
+        assertTrue(Files.exists(dir.resolve("table.idx.data")));
+
+        try (OffHeapHashMap<String, Integer> map = OffHeapHashMap.open(file,
+                ElementCodec.STRING, ElementCodec.INT)) {
+            assertEquals(4_999, map.size());
+            assertNull(map.get("key-10"));
+            assertEquals(4_321, map.get("key-4321"));
+
+            map.put("key-10", -10);
+            assertEquals(-10, map.get("key-10"));
+        }
+    }
+
+    @Test
+    void open_rejectsForeignFile() throws IOException {
+        Path file = dir.resolve("junk.idx");
+        Files.write(file, new byte[128]);
+        assertThrows(IOException.class, () -> OffHeapHashMap.open(file,
+                ElementCodec.STRING, ElementCodec.INT));
+    }
+
+    @Test
+    void open_rejectsTruncatedOrInconsistentFiles() throws IOException {
+        Path file = dir.resolve("table.idx");
+        Path data = dir.resolve("table.idx.data");
+        try (OffHeapHashMap<String, Integer> map = OffHeapHashMap.open(file,
+                ElementCodec.STRING, ElementCodec.INT, 100, 4096)) {
+            for (int i = 0; i < 100; i++) map.put("key-" + i, i);
+        }
+        byte[] index = Files.readAllBytes(file);
+        byte[] entries = Files.readAllBytes(data);
+
+        Files.write(file, Arrays.copyOf(index, index.length - 16)); // one slot short
+        assertThrows(IOException.class, () -> OffHeapHashMap.open(file, ElementCodec.STRING, ElementCodec.INT));
+
+        Files.write(file, index);
+        Files.write(data, Arrays.copyOf(entries, entries.length - 4096)); // the last chunk is gone
+        assertThrows(IOException.class, () -> OffHeapHashMap.open(file, ElementCodec.STRING, ElementCodec.INT));
+        Files.write(data, Arrays.copyOf(entries, entries.length - 1)); // a partial chunk
+        assertThrows(IOException.class, () -> OffHeapHashMap.open(file, ElementCodec.STRING, ElementCodec.INT));
+
+        Files.write(data, entries);
+        byte[] badCapacity = index.clone();
+        ByteBuffer.wrap(badCapacity).putInt(8, 3);
+        Files.write(file, badCapacity);
+        assertThrows(IOException.class, () -> OffHeapHashMap.open(file, ElementCodec.STRING, ElementCodec.INT));
+
+        Files.write(file, index);
+        try (OffHeapHashMap<String, Integer> map = OffHeapHashMap.open(file,
+                ElementCodec.STRING, ElementCodec.INT)) {
+            assertEquals(100, map.size());
+            assertEquals(42, map.get("key-42"));
+        }
+    }
+
+    @Test
+    void closedMap_rejectsUse() throws IOException {
+        OffHeapHashMap<String, Integer> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.STRING, ElementCodec.INT, 4);
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.get("a"));
+    }
+
+    @Test
+    void randomOperations_matchJavaUtilHashMap() {
+        OffHeapHashMap<Long, String> map = OffHeapHashMap.allocateDirect(
+                ElementCodec.LONG, ElementCodec.STRING, 0, 1 << 16);
+        Map<Long, String> expected = new HashMap<>();
+        Random rnd = new Random(30);
+
+        for (int step = 0; step < 30_000; step++) {
+            long key = rnd.nextInt(1_500);
+            switch (rnd.nextInt(3)) {
+                case 0 -> {
+                    String value = "v".repeat(rnd.nextInt(20)) + step;
+                    assertEquals(expected.put(key, value) == null, map.put(key, value));
+                }
+                case 1 -> assertEquals(expected.remove(key) != null, map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+
+        Map<Long, String> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(expected, seen);
+    }
+}
@@ -1,5 +1,16 @@
 package com.sophiapriola.dstoolkit.heap;
 
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+import com.sophiapriola.dstoolkit.metrics.Counters;
+import com.sophiapriola.dstoolkit.metrics.RebuildEvent;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
+import com.sophiapriola.dstoolkit.snapshot.SnapshotKind;
+import com.sophiapriola.dstoolkit.snapshot.SnapshotReader;
+import com.sophiapriola.dstoolkit.snapshot.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
@@ -14,8 +25,18 @@ import java.util.NoSuchElementException;
  */
 public class MyHeap<T> {
 
+    // metric counter indexes
+    private static final int ADDS = 0;
+    private static final int DELETES = 1;
+    private static final int COMPARISONS = 2;
+    private static final int SIFT_UP_LEVELS = 3;
+    private static final int SIFT_DOWN_LEVELS = 4;
+
+    private static final int MAX_PREALLOCATION = 1 << 16; // elements reserved up front by readSnapshot
+
     private final ArrayList<T> data = new ArrayList<>();
     private final Comparator<? super T> comparator;
+    private Counters metrics; // null until enableMetrics is called
 
     public MyHeap(Comparator<? super T> comparator) {
         if (comparator == null) {
@@ -34,6 +55,19 @@ public class MyHeap<T> {
         return data.isEmpty();
     }
 
+    /**
+     * Starts counting adds, deletes, comparisons and the number of levels each
+     * sift moves an element, and returns the live counters. Until this is
+     * called the heap pays only a null check per operation.
+     */
+    public StructureMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new Counters("MyHeap",
+                    "adds", "deletes", "comparisons", "siftUpLevels", "siftDownLevels");
+        }
+        return metrics;
+    }
+
     /** Returns the root element without removing it. */
     public T peek() {
         if (isEmpty()) {
@@ -48,6 +82,7 @@ public class MyHeap<T> {
             throw new IllegalArgumentException("value cannot be null");
         }
         data.add(value);
+        if (metrics != null) metrics.increment(ADDS);
         siftUp(data.size() - 1);
     }
 
@@ -57,6 +92,7 @@ public class MyHeap<T> {
             throw new NoSuchElementException("Heap is empty");
         }
 
+        if (metrics != null) metrics.increment(DELETES);
         T root = data.get(0);
         T last = data.remove(data.size() - 1);
 
@@ -68,13 +104,65 @@ public class MyHeap<T> {
         return root;
     }
 
+    /**
+     * Streams the backing array in index order to out as a HEAP_ARRAY
+     * snapshot. The channel is left open.
+     */
+    public void writeSnapshot(WritableByteChannel out, ElementCodec<T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<>(out, codec, SnapshotKind.HEAP_ARRAY, data.size());
+        for (T value : data) {
+            writer.write(value);
+        }
+        writer.finish();
+    }
+
+    /**
+     * Rebuilds a heap from a snapshot written by writeSnapshot. The array is
+     * restored as-is, already in heap order, so no sifting is needed; each
+     * element is only compared with its parent to reject a snapshot that is
+     * not a heap under comparator.
+     */
+    public static <T> MyHeap<T> readSnapshot(ReadableByteChannel in, ElementCodec<T> codec,
+                                             Comparator<? super T> comparator) throws IOException {
+        MyHeap<T> heap = new MyHeap<>(comparator);
+        RebuildEvent event = new RebuildEvent();
+        event.begin();
+        SnapshotReader<T> reader = new SnapshotReader<>(in, codec, SnapshotKind.HEAP_ARRAY);
+        if (reader.count() > Integer.MAX_VALUE - 8) {
+            throw new IOException("snapshot has too many elements for a MyHeap");
+        }
+        // the count is unverified until the checksum, so a corrupt header must not size the array
+        heap.data.ensureCapacity((int) Math.min(reader.count(), MAX_PREALLOCATION));
+        while (reader.hasNext()) {
+            T value = reader.next();
+            if (value == null) {
+                throw new IOException("snapshot contains a null element");
+            }
+            int i = heap.data.size();
+            if (i > 0 && comparator.compare(value, heap.data.get((i - 1) / 2)) < 0) {
+                throw new IOException("snapshot elements are not in heap order");
+            }
+            heap.data.add(value);
+        }
+        reader.finish();
+
+        if (event.shouldCommit()) {
+            event.structure = "MyHeap";
+            event.elements = heap.data.size();
+            event.commit();
+        }
+        return heap;
+    }
+
     /** Sifts the element at index i up to maintain the heap property. */
     private void siftUp(int i) {
         if (i <= 0) return;
 
         int parentIndex = (i - 1) / 2;
 
+        if (metrics != null) metrics.increment(COMPARISONS);
         if (comparator.compare(data.get(i), data.get(parentIndex)) < 0) {
+            if (metrics != null) metrics.increment(SIFT_UP_LEVELS);
             T temp = data.get(i);
             data.set(i, data.get(parentIndex));
             data.set(parentIndex, temp);
@@ -92,6 +180,10 @@ public class MyHeap<T> {
             rightChild = 2 * i + 2;
             swapIndex = i;
 
+            if (metrics != null && leftChild < data.size()) {
+                metrics.add(COMPARISONS, (rightChild < data.size()) ? 2 : 1);
+            }
+
             if (leftChild < data.size()
                     && comparator.compare(data.get(leftChild), data.get(swapIndex)) < 0) {
                 swapIndex = leftChild;
@@ -106,6 +198,7 @@ public class MyHeap<T> {
                 break;
             }
 
+            if (metrics != null) metrics.increment(SIFT_DOWN_LEVELS);
             T temp = data.get(i);
             data.set(i, data.get(swapIndex));
             data.set(swapIndex, temp);
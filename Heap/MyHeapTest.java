@@ -1,9 +1,17 @@
 package com.sophiapriola.dstoolkit.heap;
 
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -130,4 +138,73 @@ class MyHeapTest {
         assertEquals(8, heap.delete());
         assertTrue(heap.isEmpty());
     }
+
+    @Test
+    void enableMetrics_countsComparisonsAndSiftLevels() {
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        Map<String, Long> metrics = heap.enableMetrics().snapshot();
+        assertEquals(0L, metrics.get("comparisons"));
+
+        for (int i = 1; i <= 4; i++) {
+            heap.add(i); // already in order: one comparison each after the first, no sifting
+        }
+        heap.delete(); // 4 moves to the root, compares with both children and sinks one level
+        heap.add(0);   // 0 rises two levels to the root
+
+        metrics = heap.enableMetrics().snapshot();
+        assertEquals(5L, metrics.get("adds"));
+        assertEquals(1L, metrics.get("deletes"));
+        assertEquals(2L, metrics.get("siftUpLevels"));
+        assertEquals(1L, metrics.get("siftDownLevels"));
+        assertEquals(7L, metrics.get("comparisons"));
+    }
+
+    @Test
+    void snapshot_roundTrip_restoresArrayWithoutSifting() throws IOException {
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            heap.add(random.nextInt(1_000));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        heap.writeSnapshot(Channels.newChannel(bytes), ElementCodec.INT);
+
+        MyHeap<Integer> copy = MyHeap.readSnapshot(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())),
+                ElementCodec.INT, Comparator.naturalOrder());
+        assertEquals(0L, copy.enableMetrics().snapshot().get("comparisons"));
+        assertEquals(heap.size(), copy.size());
+        while (!heap.isEmpty()) {
+            assertEquals(heap.delete(), copy.delete());
+        }
+        assertTrue(copy.isEmpty());
+    }
+
+    @Test
+    void readSnapshot_rejectsElementsNotInHeapOrder() throws IOException {
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        heap.add(1);
+        heap.add(2);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        heap.writeSnapshot(Channels.newChannel(bytes), ElementCodec.INT);
+
+        // under the opposite order, 2 is a child that belongs above its parent 1
+        assertThrows(IOException.class, () -> MyHeap.readSnapshot(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())),
+                ElementCodec.INT, Comparator.reverseOrder()));
+    }
+
+    @Test
+    void readSnapshot_corruptCount_failsWithoutHugeAllocation() throws IOException {
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        heap.add(1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        heap.writeSnapshot(Channels.newChannel(bytes), ElementCodec.INT);
+        byte[] corrupt = bytes.toByteArray();
+        ByteBuffer.wrap(corrupt).putLong(8, Integer.MAX_VALUE - 16); // element count in the header
+
+        assertThrows(IOException.class, () -> MyHeap.readSnapshot(
+                Channels.newChannel(new ByteArrayInputStream(corrupt)),
+                ElementCodec.INT, Comparator.naturalOrder()));
+    }
 }
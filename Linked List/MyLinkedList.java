@@ -1,5 +1,8 @@
 package com.sophiapriola.dstoolkit.list;
 
+import com.sophiapriola.dstoolkit.metrics.Counters;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
+
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -23,9 +26,16 @@ public class MyLinkedList<T> implements Iterable<T> {
         }
     }
 
+    // metric counter indexes
+    private static final int ADDS = 0;
+    private static final int REMOVES = 1;
+    private static final int CLEARS = 2;
+    private static final int MAX_SIZE = 3;
+
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private Counters metrics; // null until enableMetrics is called
 
     /** Creates an empty doubly linked list */
     public MyLinkedList() {
@@ -44,6 +54,19 @@ public class MyLinkedList<T> implements Iterable<T> {
         return size == 0;
     }
 
+    /**
+     * Starts counting size churn (adds, removes, clears and the largest size
+     * reached) and returns the live counters. Until this is called the list
+     * pays only a null check per operation.
+     */
+    public StructureMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new Counters("MyLinkedList", "adds", "removes", "clears", "maxSize");
+            metrics.set(MAX_SIZE, size);
+        }
+        return metrics;
+    }
+
     /** Adds a new element to the front of the list */
     public void addFirst(T value) {
         Node<T> newNode = new Node<>(value);
@@ -56,6 +79,7 @@ public class MyLinkedList<T> implements Iterable<T> {
             head = newNode;
         }
         size++;
+        if (metrics != null) recordAdd();
     }
 
     /** Adds a new element to the end of the list */
@@ -70,6 +94,7 @@ public class MyLinkedList<T> implements Iterable<T> {
             tail = newNode;
         }
         size++;
+        if (metrics != null) recordAdd();
     }
 
     /** Removes element from the front of the list */
@@ -88,6 +113,7 @@ public class MyLinkedList<T> implements Iterable<T> {
         }
 
         size--;
+        if (metrics != null) metrics.increment(REMOVES);
         return data;
     }
 
@@ -107,16 +133,27 @@ public class MyLinkedList<T> implements Iterable<T> {
         }
 
         size--;
+        if (metrics != null) metrics.increment(REMOVES);
         return data;
     }
 
     /** Clears the list */
     public void clear() {
+        if (metrics != null) {
+            metrics.increment(CLEARS);
+            metrics.add(REMOVES, size);
+        }
         head = null;
         tail = null;
         size = 0;
     }
 
+    /** Helper method to count an add and track the size high-water mark */
+    private void recordAdd() {
+        metrics.increment(ADDS);
+        metrics.max(MAX_SIZE, size);
+    }
+
     /** Checks if the list contains a specific value */
     public boolean contains(T value) {
         Node<T> current = head;
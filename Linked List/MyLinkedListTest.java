@@ -1,8 +1,10 @@
 package com.sophiapriola.dstoolkit.list;
 
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -161,4 +163,24 @@ class MyLinkedListTest {
         assertEquals(1, it.next());
         assertThrows(NoSuchElementException.class, it::next);
     }
+
+    @Test
+    void enableMetrics_tracksSizeChurn() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        list.addLast(1);
+        StructureMetrics metrics = list.enableMetrics();
+        assertEquals(1L, metrics.snapshot().get("maxSize"));
+
+        list.addLast(2);
+        list.addLast(3);
+        list.removeFirst();
+        list.addFirst(0);
+        list.clear();
+
+        Map<String, Long> snapshot = metrics.snapshot();
+        assertEquals(3L, snapshot.get("adds"));
+        assertEquals(4L, snapshot.get("removes"));
+        assertEquals(1L, snapshot.get("clears"));
+        assertEquals(3L, snapshot.get("maxSize"));
+    }
 }
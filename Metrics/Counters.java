@@ -0,0 +1,83 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Fixed set of named long counters owned by one structure instance. A
+ * structure keeps a null Counters reference until metrics are enabled, so the
+ * disabled cost on a hot path is a single null check. Updates are plain field
+ * writes, matching the single-threaded structures that use them; a snapshot
+ * taken from another thread (e.g. over JMX) may lag slightly.
+ */
+public final class Counters implements StructureMetrics {
+
+    private final String structure;
+    private final String[] names;
+    private final long[] values;
+
+    /** Creates counters for structure, one per name; a counter's index is its position in names. */
+    public Counters(String structure, String... names) {
+        if (structure == null || names == null || names.length == 0) {
+            throw new IllegalArgumentException("structure and counter names are required");
+        }
+        this.structure = structure;
+        this.names = names.clone();
+        this.values = new long[names.length];
+    }
+
+    /** Adds one to a counter. */
+    public void increment(int counter) {
+        values[counter]++;
+    }
+
+    /** Adds delta to a counter. */
+    public void add(int counter, long delta) {
+        values[counter] += delta;
+    }
+
+    /** Raises a high-water-mark counter to value if value is larger. */
+    public void max(int counter, long value) {
+        if (value > values[counter]) {
+            values[counter] = value;
+        }
+    }
+
+    /** Overwrites a gauge counter. */
+    public void set(int counter, long value) {
+        values[counter] = value;
+    }
+
+    /** Returns the current value of a counter. */
+    public long get(int counter) {
+        return values[counter];
+    }
+
+    @Override
+    public String structure() {
+        return structure;
+    }
+
+    @Override
+    public Map<String, Long> snapshot() {
+        Map<String, Long> out = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            out.put(names[i], values[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(values, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return structure + snapshot();
+    }
+}
@@ -0,0 +1,50 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for Counters
+ */
+class CountersTest {
+
+    @Test
+    void constructor_withoutNames_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new Counters("X"));
+        assertThrows(IllegalArgumentException.class, () -> new Counters(null, "a"));
+    }
+
+    @Test
+    void updates_areReflectedInSnapshotInDeclarationOrder() {
+        Counters counters = new Counters("X", "b", "a", "c");
+        counters.increment(0);
+        counters.add(1, 5);
+        counters.max(2, 7);
+        counters.max(2, 3);
+
+        Map<String, Long> snapshot = counters.snapshot();
+        assertEquals(List.of("b", "a", "c"), List.copyOf(snapshot.keySet()));
+        assertEquals(1L, snapshot.get("b"));
+        assertEquals(5L, snapshot.get("a"));
+        assertEquals(7L, snapshot.get("c"));
+
+        counters.set(2, 1);
+        assertEquals(1L, counters.get(2));
+    }
+
+    @Test
+    void reset_zeroesEveryCounter() {
+        Counters counters = new Counters("X", "a", "b");
+        counters.add(0, 3);
+        counters.add(1, 4);
+        counters.reset();
+        assertEquals(Map.of("a", 0L, "b", 0L), counters.snapshot());
+    }
+}
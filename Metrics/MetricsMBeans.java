@@ -0,0 +1,125 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Publishes StructureMetrics on the platform MBean server, one read-only long
+ * attribute per counter plus a reset operation, under
+ * com.sophiapriola.dstoolkit:type=&lt;structure&gt;,name=&lt;name&gt;.
+ */
+public final class MetricsMBeans {
+
+    private static final String DOMAIN = "com.sophiapriola.dstoolkit";
+
+    private MetricsMBeans() {
+    }
+
+    /** Registers metrics under the given instance name and returns the MBean's name. */
+    public static ObjectName register(StructureMetrics metrics, String name) {
+        if (metrics == null || name == null) {
+            throw new IllegalArgumentException("metrics and name cannot be null");
+        }
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=" + ObjectName.quote(metrics.structure())
+                    + ",name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(metrics), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("could not register metrics MBean " + name, e);
+        }
+    }
+
+    /** Removes an MBean registered by register; does nothing if it is already gone. */
+    public static void unregister(ObjectName objectName) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("could not unregister " + objectName, e);
+        }
+    }
+
+    /** Read-only view of one StructureMetrics. */
+    private static final class MetricsMBean implements DynamicMBean {
+
+        private final StructureMetrics metrics;
+        private final MBeanInfo info;
+
+        MetricsMBean(StructureMetrics metrics) {
+            this.metrics = metrics;
+            Map<String, Long> names = metrics.snapshot();
+            MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[names.size()];
+            int i = 0;
+            for (String counter : names.keySet()) {
+                attributes[i++] = new MBeanAttributeInfo(counter, "long", counter, true, false, false);
+            }
+            MBeanOperationInfo reset = new MBeanOperationInfo("reset", "Sets every counter back to zero",
+                    null, "void", MBeanOperationInfo.ACTION);
+            info = new MBeanInfo(getClass().getName(), metrics.structure() + " metrics",
+                    attributes, null, new MBeanOperationInfo[] {reset}, null);
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Long value = metrics.snapshot().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Long> snapshot = metrics.snapshot();
+            AttributeList out = new AttributeList();
+            for (String name : attributes) {
+                if (snapshot.containsKey(name)) {
+                    out.add(new Attribute(name, snapshot.get(name)));
+                }
+            }
+            return out;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature)
+                throws ReflectionException {
+            if ("reset".equals(actionName)) {
+                metrics.reset();
+                return null;
+            }
+            throw new ReflectionException(new NoSuchMethodException(actionName));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            return info;
+        }
+    }
+}
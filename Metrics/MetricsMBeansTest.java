@@ -0,0 +1,75 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for publishing metrics over JMX
+ */
+class MetricsMBeansTest {
+
+    @Test
+    void register_exposesCountersAsAttributes_andResetOperation() throws Exception {
+        Counters counters = new Counters("TestStructure", "hits", "misses");
+        counters.add(0, 3);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = MetricsMBeans.register(counters, "register-test");
+        try {
+            assertTrue(server.isRegistered(name));
+            assertEquals(3L, server.getAttribute(name, "hits"));
+            assertEquals(0L, server.getAttribute(name, "misses"));
+
+            counters.increment(1);
+            assertEquals(1L, server.getAttribute(name, "misses"));
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, counters.get(0));
+        } finally {
+            MetricsMBeans.unregister(name);
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void invoke_unknownOperation_throwsReflectionException() {
+        Counters counters = new Counters("TestStructure", "hits");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = MetricsMBeans.register(counters, "invoke-test");
+        try {
+            ReflectionException e = assertThrows(ReflectionException.class,
+                    () -> server.invoke(name, "flush", null, null));
+            assertInstanceOf(NoSuchMethodException.class, e.getTargetException());
+            assertEquals("flush", e.getTargetException().getMessage());
+        } finally {
+            MetricsMBeans.unregister(name);
+        }
+    }
+
+    @Test
+    void register_sameNameTwice_throws() {
+        Counters counters = new Counters("TestStructure", "hits");
+        ObjectName name = MetricsMBeans.register(counters, "duplicate-test");
+        try {
+            assertThrows(IllegalStateException.class, () -> MetricsMBeans.register(counters, "duplicate-test"));
+        } finally {
+            MetricsMBeans.unregister(name);
+        }
+    }
+
+    @Test
+    void register_nullArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> MetricsMBeans.register(null, "x"));
+        assertThrows(IllegalArgumentException.class,
+                () -> MetricsMBeans.register(new Counters("X", "a"), null));
+    }
+}
@@ -0,0 +1,28 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * JFR event emitted when a structure is rebuilt wholesale, e.g. reloaded
+ * from a snapshot. Like ResizeEvent it is only recorded while a Flight
+ * Recording with this event enabled is running.
+ */
+@Name("com.sophiapriola.dstoolkit.Rebuild")
+@Label("Structure Rebuild")
+@Category("Data Structures Toolkit")
+@Description("A structure was rebuilt from a stream of elements")
+public class RebuildEvent extends Event {
+
+    @Label("Structure")
+    public String structure;
+
+    @Label("Elements")
+    public long elements;
+}
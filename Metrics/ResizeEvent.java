@@ -0,0 +1,34 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * JFR event emitted when a table-based structure grows. It is only recorded
+ * while a Flight Recording with this event enabled is running; otherwise
+ * commit() does nothing.
+ */
+@Name("com.sophiapriola.dstoolkit.Resize")
+@Label("Structure Resize")
+@Category("Data Structures Toolkit")
+@Description("A hash table was rehashed into a larger table")
+public class ResizeEvent extends Event {
+
+    @Label("Structure")
+    public String structure;
+
+    @Label("Old Capacity")
+    public long oldCapacity;
+
+    @Label("New Capacity")
+    public long newCapacity;
+
+    @Label("Entries")
+    public long entries;
+}
@@ -0,0 +1,22 @@
+package com.sophiapriola.dstoolkit.metrics;
+
+import java.util.Map;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Read side of the per-instance counters a data structure records once its
+ * metrics are enabled (e.g. MyHeap.enableMetrics()).
+ */
+public interface StructureMetrics {
+
+    /** Short name of the structure type, e.g. "MyHeap". */
+    String structure();
+
+    /** Current value of every counter, keyed by counter name in a stable order. */
+    Map<String, Long> snapshot();
+
+    /** Sets every counter back to zero. */
+    void reset();
+}
@@ -0,0 +1,143 @@
+package com.sophiapriola.dstoolkit.perf;
+
+import com.sophiapriola.dstoolkit.hashmap.IntIntMap;
+import com.sophiapriola.dstoolkit.hashmap.MyHashMap;
+import com.sophiapriola.dstoolkit.heap.MyHeap;
+import com.sophiapriola.dstoolkit.list.MyLinkedList;
+import com.sophiapriola.dstoolkit.tree.AVLTree;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Per-operation allocation limits, measured with ThreadMXBean on the test
+ * thread. Values are boxed up front so only the structure's own allocations
+ * are counted. Operations that should not allocate at all are allowed well
+ * under one byte per operation, which tolerates the measurement's own noise
+ * but fails as soon as something allocates on every call.
+ */
+class AllocationPerfTest {
+
+    private static final int OPS = 1_000_000;
+    private static final double NO_ALLOCATION = 0.5; // bytes per operation
+
+    private static Integer[] values;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(PerfResults.allocationCountingSupported(), "thread allocation counting is not available");
+        Random random = new Random(PerfResults.SEED);
+        values = new Integer[OPS];
+        for (int i = 0; i < OPS; i++) {
+            values[i] = random.nextInt();
+        }
+    }
+
+    @AfterAll
+    static void writeResults() {
+        PerfResults.write();
+    }
+
+    /** Runs op twice (warm-up, then measured) and returns the bytes it allocated per operation. */
+    private static double bytesPerOp(String key, Runnable op) {
+        op.run();
+        long before = PerfResults.allocatedBytes();
+        op.run();
+        double perOp = (PerfResults.allocatedBytes() - before) / (double) OPS;
+        PerfResults.record(key + ".bytesPerOp", perOp);
+        return perOp;
+    }
+
+    @Test
+    void myHeap_addAndDelete_doNotAllocateOnceGrown() {
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        for (int i = 0; i < OPS; i++) {
+            heap.add(values[i]);
+        }
+        double perOp = bytesPerOp("MyHeap.addDelete", () -> {
+            for (int i = 0; i < OPS; i++) {
+                heap.add(values[i]);
+                heap.delete();
+            }
+        });
+        assertTrue(perOp < NO_ALLOCATION, "MyHeap add+delete allocated " + perOp + " bytes/op");
+    }
+
+    @Test
+    void avlTree_insertAllocatesOneNode_containsNothing() {
+        double insert = bytesPerOp("AVLTree.insert", () -> {
+            AVLTree<Integer> tree = new AVLTree<>(Comparator.naturalOrder());
+            for (int i = 0; i < OPS; i++) {
+                tree.insert(values[i]);
+            }
+        });
+        // one node: header plus data, left, right and height fields (32 bytes with compressed oops)
+        assertTrue(insert <= 48, "AVLTree.insert allocated " + insert + " bytes/op");
+
+        AVLTree<Integer> tree = new AVLTree<>(Comparator.naturalOrder());
+        for (int i = 0; i < OPS; i++) {
+            tree.insert(values[i]);
+        }
+        double contains = bytesPerOp("AVLTree.contains", () -> {
+            for (int i = 0; i < OPS; i++) {
+                tree.contains(values[i]);
+            }
+        });
+        assertTrue(contains < NO_ALLOCATION, "AVLTree.contains allocated " + contains + " bytes/op");
+    }
+
+    @Test
+    void myLinkedList_addAllocatesOneNode() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        double perOp = bytesPerOp("MyLinkedList.addLastRemoveFirst", () -> {
+            for (int i = 0; i < OPS; i++) {
+                list.addLast(values[i]);
+                list.removeFirst();
+            }
+        });
+        assertTrue(perOp <= 32, "MyLinkedList addLast+removeFirst allocated " + perOp + " bytes/op");
+    }
+
+    @Test
+    void myHashMap_getAndOverwrite_doNotAllocate() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        for (int i = 0; i < OPS; i++) {
+            map.put(values[i], values[i]);
+        }
+        double get = bytesPerOp("MyHashMap.get", () -> {
+            for (int i = 0; i < OPS; i++) {
+                map.get(values[i]);
+            }
+        });
+        double put = bytesPerOp("MyHashMap.putExisting", () -> {
+            for (int i = 0; i < OPS; i++) {
+                map.put(values[i], values[i]);
+            }
+        });
+        assertTrue(get < NO_ALLOCATION, "MyHashMap.get allocated " + get + " bytes/op");
+        assertTrue(put < NO_ALLOCATION, "MyHashMap.put allocated " + put + " bytes/op");
+    }
+
+    @Test
+    void intIntMap_getAndOverwrite_doNotAllocate() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < OPS; i++) {
+            map.put(values[i], i);
+        }
+        double perOp = bytesPerOp("IntIntMap.getPut", () -> {
+            for (int i = 0; i < OPS; i++) {
+                map.put(values[i], map.get(values[i]) + 1);
+            }
+        });
+        assertTrue(perOp < NO_ALLOCATION, "IntIntMap get+put allocated " + perOp + " bytes/op");
+    }
+}
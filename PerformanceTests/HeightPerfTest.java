@@ -0,0 +1,165 @@
+package com.sophiapriola.dstoolkit.perf;
+
+import com.sophiapriola.dstoolkit.hashmap.MyHashMap;
+import com.sophiapriola.dstoolkit.heap.MyHeap;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
+import com.sophiapriola.dstoolkit.tree.AVLTree;
+import com.sophiapriola.dstoolkit.tree.BinarySearchTree;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Worst-case shape limits at perf.size elements: tree heights, heap sift
+ * depth and hash probe lengths, each checked against its theoretical bound.
+ * Adversarial (sorted) input is used wherever it is the worst case.
+ */
+class HeightPerfTest {
+
+    private static final int N = PerfResults.SIZE;
+
+    @AfterAll
+    static void writeResults() {
+        PerfResults.write();
+    }
+
+    private static double log2(double x) {
+        return Math.log(x) / Math.log(2);
+    }
+
+    @Test
+    void avlTree_heightStaysWithinAvlBound_onSortedAndRandomInput() throws InterruptedException {
+        // an AVL tree with n nodes has height below 1.4405 * log2(n + 2) - 0.3277
+        double bound = 1.4405 * log2(N + 2) - 0.3277;
+
+        // insert recurses once per level; a small stack shows that depth stays near the height, not N
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int[] heights = new int[2];
+        Thread worker = new Thread(null, () -> {
+            try {
+                AVLTree<Integer> sorted = new AVLTree<>(Comparator.naturalOrder());
+                for (int i = 0; i < N; i++) {
+                    sorted.insert(i);
+                }
+                AVLTree<Integer> random = new AVLTree<>(Comparator.naturalOrder());
+                Random rnd = new Random(PerfResults.SEED);
+                for (int i = 0; i < N; i++) {
+                    random.insert(rnd.nextInt());
+                }
+                assertEquals(N, sorted.size());
+                assertTrue(sorted.contains(N - 1));
+                heights[0] = sorted.height();
+                heights[1] = random.height();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        }, "small-stack", 64 * 1024);
+        worker.start();
+        worker.join();
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        PerfResults.record("AVLTree.sortedInsert.height", heights[0]);
+        PerfResults.record("AVLTree.randomInsert.height", heights[1]);
+        assertTrue(heights[0] <= bound, "sorted height " + heights[0]);
+        assertTrue(heights[1] <= bound, "random height " + heights[1]);
+    }
+
+    @Test
+    void binarySearchTree_degenerateInput_doesNotNeedStack() throws InterruptedException {
+        // sorted input builds a path of N nodes; a small stack proves every operation is iterative
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int[] height = new int[1];
+        Thread worker = new Thread(null, () -> {
+            try {
+                BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder());
+                int n = Math.min(N, 20_000); // each sorted insert walks the whole path: O(n^2)
+                for (int i = 0; i < n; i++) {
+                    tree.insert(i);
+                }
+                height[0] = tree.height();
+                assertEquals(n, tree.inOrder().size());
+                assertTrue(tree.contains(n - 1));
+                assertTrue(tree.delete(0));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        }, "small-stack", 64 * 1024);
+        worker.start();
+        worker.join();
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+        PerfResults.record("BinarySearchTree.sortedInsert.height", height[0]);
+    }
+
+    @Test
+    void binarySearchTree_randomInput_staysLogarithmic() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder());
+        Random rnd = new Random(PerfResults.SEED);
+        for (int i = 0; i < N; i++) {
+            tree.insert(rnd.nextInt());
+        }
+        // expected height of a random BST is about 4.311 ln n; allow 3 ln n of slack on top
+        double bound = 7.311 * Math.log(N);
+        PerfResults.record("BinarySearchTree.randomInsert.height", tree.height());
+        assertTrue(tree.height() <= bound, "random BST height " + tree.height());
+    }
+
+    @Test
+    void myHeap_siftDepthNeverExceedsHeapHeight() {
+        // descending input into a min-heap is the worst case: every add rises to the root
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        StructureMetrics counters = heap.enableMetrics();
+        long maxLevels = 0;
+        for (int i = 0; i < N; i++) {
+            heap.add(N - i);
+            maxLevels += 31 - Integer.numberOfLeadingZeros(i + 1); // floor(log2(size)) levels at most
+        }
+        long deleteBound = 0;
+        for (int size = N; size > 1; size--) {
+            deleteBound += 31 - Integer.numberOfLeadingZeros(size - 1);
+            heap.delete();
+        }
+        Map<String, Long> metrics = counters.snapshot();
+
+        PerfResults.record("MyHeap.descendingAdd.siftUpLevels", metrics.get("siftUpLevels"));
+        PerfResults.record("MyHeap.deleteAll.siftDownLevels", metrics.get("siftDownLevels"));
+        PerfResults.record("MyHeap.comparisons", metrics.get("comparisons"));
+        assertEquals(maxLevels, metrics.get("siftUpLevels"));
+        assertTrue(metrics.get("siftDownLevels") <= deleteBound);
+    }
+
+    @Test
+    void myHashMap_probeLengthsStayShort() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        StructureMetrics counters = map.enableMetrics();
+        Random rnd = new Random(PerfResults.SEED);
+        for (int i = 0; i < N; i++) {
+            map.put(rnd.nextInt(), i);
+        }
+        // sequential keys are a classic weak spot for poor hash spreading
+        for (int i = 0; i < N; i++) {
+            map.get(i);
+        }
+        Map<String, Long> metrics = counters.snapshot();
+        double mean = metrics.get("probes") / (double) metrics.get("lookups");
+
+        PerfResults.record("MyHashMap.maxProbeLength", metrics.get("maxProbeLength"));
+        PerfResults.record("MyHashMap.meanProbeLength", mean);
+        PerfResults.record("MyHashMap.resizes", metrics.get("resizes"));
+        // Robin Hood hashing keeps the longest probe O(log n) at this load factor
+        assertTrue(metrics.get("maxProbeLength") <= 4 * log2(N), "max probe " + metrics.get("maxProbeLength"));
+        assertTrue(mean < 4.0, "mean probe " + mean);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sophiapriola.dstoolkit.perf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Shared settings and result sink for the performance suites. Every suite
+ * records named measurements here and rewrites the results file after it
+ * finishes, so the file always holds everything measured so far in one JVM.
+ * Keys are written in sorted order, one per line, so two results files can
+ * be compared with a plain diff. Allocation, height and probe-length results
+ * are deterministic for a given seed; timings are not.
+ *
+ * Settings come from system properties (set by the Maven performance profile):
+ * perf.size (elements per stress test), perf.seed and perf.results (file path).
+ */
+final class PerfResults {
+
+    static final int SIZE = Integer.getInteger("perf.size", 1_000_000);
+    static final long SEED = Long.getLong("perf.seed", 42L);
+    private static final Path FILE = Path.of(System.getProperty("perf.results", "target/perf-results.json"));
+
+    private static final Map<String, String> RESULTS = new TreeMap<>();
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PerfResults() {
+    }
+
+    /** Records an integer measurement, e.g. a height or a count. */
+    static synchronized void record(String key, long value) {
+        RESULTS.put(key, Long.toString(value));
+    }
+
+    /** Records a fractional measurement, e.g. bytes or nanoseconds per operation. */
+    static synchronized void record(String key, double value) {
+        RESULTS.put(key, String.format(Locale.ROOT, "%.2f", value));
+    }
+
+    /** Returns true if this JVM can count the bytes allocated by a thread. */
+    static boolean allocationCountingSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /** Bytes allocated so far by the calling thread. */
+    static long allocatedBytes() {
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /** Rewrites the results file as a flat JSON object with sorted keys. */
+    static synchronized void write() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"java.version\": \"").append(System.getProperty("java.version")).append("\",\n");
+        json.append("  \"perf.seed\": ").append(SEED).append(",\n");
+        json.append("  \"perf.size\": ").append(SIZE);
+        for (Map.Entry<String, String> e : RESULTS.entrySet()) {
+            json.append(",\n  \"").append(e.getKey()).append("\": ").append(e.getValue());
+        }
+        json.append("\n}\n");
+        try {
+            Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(FILE, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not write " + FILE, e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.sophiapriola.dstoolkit.perf;
+
+import com.sophiapriola.dstoolkit.hashmap.IntIntMap;
+import com.sophiapriola.dstoolkit.hashmap.MyHashMap;
+import com.sophiapriola.dstoolkit.heap.MyHeap;
+import com.sophiapriola.dstoolkit.list.MyLinkedList;
+import com.sophiapriola.dstoolkit.tree.AVLTree;
+import com.sophiapriola.dstoolkit.tree.BinarySearchTree;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Randomized property tests at perf.size operations: each structure runs a
+ * seeded random mix of operations side by side with its java.util
+ * counterpart, and every result must agree. A failure message carries the
+ * seed; rerun with -Dperf.seed=... to reproduce it. Wall-clock time per
+ * operation (including the reference structure) goes to the results file for
+ * trend tracking but is not asserted.
+ */
+class StressPerfTest {
+
+    private static final int N = PerfResults.SIZE;
+
+    @AfterAll
+    static void writeResults() {
+        PerfResults.write();
+    }
+
+    private static String seed() {
+        return "seed " + PerfResults.SEED;
+    }
+
+    private static void recordTime(String key, long start) {
+        PerfResults.record(key + ".nsPerOp", (System.nanoTime() - start) / (double) N);
+    }
+
+    @Test
+    void myHeap_matchesPriorityQueue() {
+        Random rnd = new Random(PerfResults.SEED);
+        MyHeap<Integer> heap = new MyHeap<>(Comparator.naturalOrder());
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < N; i++) {
+            if (expected.isEmpty() || rnd.nextInt(5) < 3) {
+                int v = rnd.nextInt(N); // small range: plenty of duplicates
+                heap.add(v);
+                expected.add(v);
+            } else {
+                assertEquals(expected.poll(), heap.delete(), seed());
+            }
+            assertEquals(expected.size(), heap.size(), seed());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), heap.delete(), seed());
+        }
+        recordTime("MyHeap.stress", start);
+    }
+
+    @Test
+    void avlTree_matchesTreeSet() {
+        Random rnd = new Random(PerfResults.SEED);
+        AVLTree<Integer> tree = new AVLTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < N; i++) {
+            int v = rnd.nextInt(N);
+            if (rnd.nextBoolean()) {
+                tree.insert(v);
+                expected.add(v);
+            } else {
+                assertEquals(expected.contains(v), tree.contains(v), seed());
+            }
+        }
+        recordTime("AVLTree.stress", start);
+        assertEquals(expected.size(), tree.size(), seed());
+        assertEquals(new ArrayList<>(expected), tree.inOrder(), seed());
+    }
+
+    @Test
+    void binarySearchTree_matchesTreeSet_inBothModes() {
+        for (boolean splay : new boolean[] {false, true}) {
+            Random rnd = new Random(PerfResults.SEED);
+            BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder(), splay);
+            TreeSet<Integer> expected = new TreeSet<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < N; i++) {
+                int v = rnd.nextInt(N / 2);
+                switch (rnd.nextInt(3)) {
+                    case 0:
+                        tree.insert(v);
+                        expected.add(v);
+                        break;
+                    case 1:
+                        assertEquals(expected.remove(v), tree.delete(v), seed());
+                        break;
+                    default:
+                        assertEquals(expected.contains(v), tree.contains(v), seed());
+                }
+            }
+            recordTime(splay ? "BinarySearchTree.splay.stress" : "BinarySearchTree.stress", start);
+            assertEquals(expected.size(), tree.size(), seed());
+            assertEquals(new ArrayList<>(expected), tree.inOrder(), seed());
+        }
+    }
+
+    @Test
+    void myLinkedList_matchesArrayDeque() {
+        Random rnd = new Random(PerfResults.SEED);
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < N; i++) {
+            int op = rnd.nextInt(expected.isEmpty() ? 2 : 4);
+            switch (op) {
+                case 0:
+                    list.addFirst(i);
+                    expected.addFirst(i);
+                    break;
+                case 1:
+                    list.addLast(i);
+                    expected.addLast(i);
+                    break;
+                case 2:
+                    assertEquals(expected.removeFirst(), list.removeFirst(), seed());
+                    break;
+                default:
+                    assertEquals(expected.removeLast(), list.removeLast(), seed());
+            }
+            assertEquals(expected.size(), list.size(), seed());
+        }
+        recordTime("MyLinkedList.stress", start);
+        ArrayList<Integer> actual = new ArrayList<>();
+        list.forEach(actual::add);
+        assertEquals(new ArrayList<>(expected), actual, seed());
+    }
+
+    @Test
+    void myHashMap_matchesHashMap() {
+        Random rnd = new Random(PerfResults.SEED);
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < N; i++) {
+            int k = rnd.nextInt(N / 4);
+            switch (rnd.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(k, i), map.put(k, i), seed());
+                    break;
+                case 1:
+                    assertEquals(expected.remove(k), map.remove(k), seed());
+                    break;
+                default:
+                    assertEquals(expected.get(k), map.get(k), seed());
+            }
+        }
+        recordTime("MyHashMap.stress", start);
+        assertEquals(expected.size(), map.size(), seed());
+        map.forEach((k, v) -> assertEquals(expected.get(k), v, seed()));
+    }
+
+    @Test
+    void intIntMap_matchesHashMap() {
+        Random rnd = new Random(PerfResults.SEED);
+        IntIntMap map = new IntIntMap(16, 0.75f, -1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < N; i++) {
+            int k = rnd.nextInt(N / 4) - N / 8; // includes 0, the free-slot marker
+            switch (rnd.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.getOrDefault(k, -1), map.put(k, i), seed());
+                    expected.put(k, i);
+                    break;
+                case 1:
+                    Integer old = expected.remove(k);
+                    assertEquals(old == null ? -1 : old, map.remove(k), seed());
+                    break;
+                default:
+                    assertEquals(expected.getOrDefault(k, -1), map.get(k), seed());
+            }
+        }
+        recordTime("IntIntMap.stress", start);
+        assertEquals(expected.size(), map.size(), seed());
+    }
+}
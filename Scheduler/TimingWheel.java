@@ -0,0 +1,363 @@
+package com.sophiapriola.dstoolkit.scheduler;
+
+import com.sophiapriola.dstoolkit.heap.MyHeap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a hierarchical timing wheel for large numbers of
+ * timeouts, most of which are expected to be cancelled. Time is cut into
+ * fixed ticks; level 0 has one slot per tick and each higher level has slots
+ * that span a whole turn of the level below. A timeout sits in an intrusive
+ * doubly linked list in the slot of the lowest level that can hold its
+ * deadline, so schedule and cancel are O(1) with no comparisons. When a
+ * higher-level slot comes due its timeouts cascade down a level, and when a
+ * level-0 slot comes due its whole list is spliced onto a ready list at once.
+ *
+ * Deadlines beyond the top level's range go to a MyHeap ordered by deadline
+ * and move into the wheel once they come within range. Cancelling one of
+ * those only marks it; it is dropped when it reaches the top of the heap.
+ *
+ * Timeouts never fire early: a deadline is rounded up to the next tick. The
+ * clock is a pluggable nanosecond ticker, so tests can drive time by hand.
+ * Like System.nanoTime values, ticker readings are only compared by
+ * subtraction from the wheel's start, so a clock that wraps past
+ * Long.MAX_VALUE is fine; delays too long to represent are capped there.
+ * Nothing happens in the background; callers call advance to collect the
+ * expired tasks. The wheel is not thread-safe.
+ */
+public class TimingWheel<T> {
+
+    private static final int DEFAULT_SLOT_BITS = 6; // 64 slots per level
+    private static final int DEFAULT_LEVELS = 4;
+
+    // Timeout states
+    private static final int WAITING = 0;   // in a wheel slot or the ready list
+    private static final int OVERFLOW = 1;  // in the far-future heap
+    private static final int CANCELLED = 2;
+    private static final int EXPIRED = 3;   // handed to advance's action
+
+    /** Handle for one scheduled task; also a node of the slot lists. */
+    public static final class Timeout<T> {
+        private final TimingWheel<T> wheel;
+        private final T task;
+        private final long deadline;
+        private final long deadlineTick;
+        private int state;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, T task, long deadline, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /** Returns the scheduled task. */
+        public T task() {
+            return task;
+        }
+
+        /** Returns the deadline, in the wheel's ticker units (nanoseconds). */
+        public long deadline() {
+            return deadline;
+        }
+
+        /** Returns true if the task was cancelled before it expired. */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /** Returns true if the task has been handed out by advance. */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        /** Cancels the task in O(1). Returns false if it already expired or was cancelled. */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    private final LongSupplier ticker;
+    private final long origin;
+    private final long tickNanos;
+    private final int slotBits;
+    private final int mask;
+    private final int levels;
+    private final long horizon; // ticks covered by the wheel: slots^levels
+    private final Timeout<T>[][] slots; // [level][slot] list sentinels
+    private final Timeout<T> ready;     // expired, not yet handed out
+    private final MyHeap<Timeout<T>> overflow;
+    private int cancelledOverflow; // cancelled timeouts still in the overflow heap
+    private long currentTick; // last tick processed
+    private int size;
+
+    /** Creates a wheel with the given tick, 64 slots per level, 4 levels and System.nanoTime as clock. */
+    public TimingWheel(Duration tick) {
+        this(tick, 1 << DEFAULT_SLOT_BITS, DEFAULT_LEVELS, System::nanoTime);
+    }
+
+    /**
+     * Creates a wheel. slotsPerLevel must be a power of two; the wheel covers
+     * tick * slotsPerLevel^levels, and later deadlines use the overflow heap.
+     * ticker returns the current time in nanoseconds.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(Duration tick, int slotsPerLevel, int levels, LongSupplier ticker) {
+        if (tick == null || ticker == null) {
+            throw new IllegalArgumentException("tick and ticker cannot be null");
+        }
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if (slotsPerLevel < 2 || Integer.bitCount(slotsPerLevel) != 1) {
+            throw new IllegalArgumentException("slotsPerLevel must be a power of two of at least 2");
+        }
+        slotBits = Integer.numberOfTrailingZeros(slotsPerLevel);
+        if (levels < 1 || (long) slotBits * levels > 62) {
+            throw new IllegalArgumentException("levels must be positive and slotsPerLevel^levels below 2^62");
+        }
+        this.ticker = ticker;
+        this.tickNanos = tick.toNanos();
+        this.mask = slotsPerLevel - 1;
+        this.levels = levels;
+        this.horizon = 1L << (slotBits * levels);
+        this.origin = ticker.getAsLong();
+
+        slots = (Timeout<T>[][]) new Timeout[levels][slotsPerLevel];
+        for (int l = 0; l < levels; l++) {
+            for (int s = 0; s < slotsPerLevel; s++) {
+                slots[l][s] = sentinel();
+            }
+        }
+        ready = sentinel();
+        overflow = new MyHeap<>(Comparator.comparingLong((Timeout<T> t) -> t.deadlineTick));
+    }
+
+    /** Returns the number of tasks that have neither expired nor been cancelled. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if no tasks are waiting. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Schedules task to expire after delay. */
+    public Timeout<T> schedule(T task, Duration delay) {
+        if (delay == null) {
+            throw new IllegalArgumentException("delay cannot be null");
+        }
+        return scheduleAfterOrigin(task, saturatedAdd(ticker.getAsLong() - origin, saturatedNanos(delay)));
+    }
+
+    /**
+     * Schedules task to expire once the ticker reaches deadline (nanoseconds).
+     * As with System.nanoTime, deadline must lie within about 292 years of
+     * the current reading.
+     */
+    public Timeout<T> scheduleAt(T task, long deadline) {
+        return scheduleAfterOrigin(task, deadline - origin);
+    }
+
+    /** Schedules task for offset nanoseconds after the wheel's origin. */
+    private Timeout<T> scheduleAfterOrigin(T task, long offset) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+        // round up so a task never fires before its deadline, and never into a tick already processed
+        long tick = Math.max(ceilDiv(offset, tickNanos), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(this, task, origin + offset, tick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Processes every tick up to the ticker's current time and calls action
+     * for each expired task, in deadline-tick order. Returns the number of
+     * tasks handed out.
+     */
+    public int advance(Consumer<? super T> action) {
+        return advance(action, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like advance(action), but hands out at most maxTasks tasks. Expired
+     * tasks beyond the limit stay queued (and cancellable) for the next call,
+     * which bounds the work done per call.
+     */
+    public int advance(Consumer<? super T> action, int maxTasks) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        if (maxTasks <= 0) {
+            throw new IllegalArgumentException("maxTasks must be positive");
+        }
+        long target = Math.floorDiv(ticker.getAsLong() - origin, tickNanos);
+        if (size == 0) {
+            currentTick = Math.max(currentTick, target); // nothing to cascade or expire
+        }
+        while (currentTick < target) {
+            tick(++currentTick);
+        }
+
+        int delivered = 0;
+        while (delivered < maxTasks && ready.next != ready) {
+            Timeout<T> t = ready.next;
+            unlink(t);
+            t.state = EXPIRED;
+            size--;
+            delivered++;
+            action.accept(t.task);
+        }
+        return delivered;
+    }
+
+    /** Moves overflow and higher-level timeouts down as needed, then readies the due level-0 slot. */
+    private void tick(long tick) {
+        while (!overflow.isEmpty() && overflow.peek().deadlineTick - tick < horizon) {
+            Timeout<T> t = overflow.delete();
+            if (t.state == OVERFLOW) {
+                place(t);
+            } else {
+                cancelledOverflow--;
+            }
+        }
+        // level l turns over whenever the l lowest slot-index digits of the tick are all zero
+        for (int l = 1; l < levels && (tick & ((1L << (slotBits * l)) - 1)) == 0; l++) {
+            Timeout<T> head = slots[l][(int) (tick >>> (slotBits * l)) & mask];
+            while (head.next != head) {
+                Timeout<T> t = head.next;
+                unlink(t);
+                place(t);
+            }
+        }
+        spliceBefore(ready, slots[0][(int) tick & mask]);
+    }
+
+    /** Puts t into the lowest level whose range covers its deadline, or into the overflow heap. */
+    private void place(Timeout<T> t) {
+        long delta = t.deadlineTick - currentTick;
+        if (delta >= horizon) {
+            t.state = OVERFLOW;
+            overflow.add(t);
+            return;
+        }
+        t.state = WAITING;
+        int level = 0;
+        while (delta >= (1L << (slotBits * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) (t.deadlineTick >>> (slotBits * level)) & mask;
+        linkBefore(slots[level][slot], t);
+    }
+
+    private boolean cancel(Timeout<T> t) {
+        boolean inOverflow = t.state == OVERFLOW;
+        if (t.state == WAITING) {
+            unlink(t);
+        } else if (!inOverflow) {
+            return false;
+        }
+        t.state = CANCELLED;
+        size--;
+        // an overflow entry stays in the heap until it reaches the top, or until
+        // cancelled entries make up more than half of the heap and it is rebuilt
+        if (inOverflow && ++cancelledOverflow > overflow.size() / 2) {
+            purgeOverflow();
+        }
+        return true;
+    }
+
+    /** Drops the cancelled timeouts from the overflow heap. */
+    private void purgeOverflow() {
+        List<Timeout<T>> live = new ArrayList<>(overflow.size() - cancelledOverflow);
+        while (!overflow.isEmpty()) {
+            Timeout<T> t = overflow.delete();
+            if (t.state == OVERFLOW) {
+                live.add(t);
+            }
+        }
+        for (Timeout<T> t : live) {
+            overflow.add(t);
+        }
+        cancelledOverflow = 0;
+    }
+
+    /** Returns the number of entries in the overflow heap, cancelled ones included; for tests. */
+    int overflowSize() {
+        return overflow.size();
+    }
+
+    private Timeout<T> sentinel() {
+        Timeout<T> s = new Timeout<>(this, null, 0, 0);
+        s.prev = s;
+        s.next = s;
+        return s;
+    }
+
+    private static <T> void linkBefore(Timeout<T> at, Timeout<T> t) {
+        t.prev = at.prev;
+        t.next = at;
+        at.prev.next = t;
+        at.prev = t;
+    }
+
+    private static <T> void unlink(Timeout<T> t) {
+        t.prev.next = t.next;
+        t.next.prev = t.prev;
+        t.prev = null;
+        t.next = null;
+    }
+
+    /** Moves every node of the list headed by from to the end of the list headed by to, in O(1). */
+    private static <T> void spliceBefore(Timeout<T> to, Timeout<T> from) {
+        if (from.next == from) {
+            return;
+        }
+        Timeout<T> first = from.next;
+        Timeout<T> last = from.prev;
+        first.prev = to.prev;
+        to.prev.next = first;
+        last.next = to;
+        to.prev = last;
+        from.next = from;
+        from.prev = from;
+    }
+
+    /** Rounds x / y up for a positive y, without negating x (which overflows for Long.MIN_VALUE). */
+    private static long ceilDiv(long x, long y) {
+        long q = x / y;
+        return (x % y > 0) ? q + 1 : q;
+    }
+
+    /** Returns a + b, clamped to the long range instead of wrapping. */
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        if (((a ^ sum) & (b ^ sum)) < 0) {
+            return (b < 0) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sum;
+    }
+
+    /** Returns the duration in nanoseconds, clamped to the long range (about 292 years). */
+    private static long saturatedNanos(Duration d) {
+        try {
+            return d.toNanos();
+        } catch (ArithmeticException e) {
+            return d.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+}
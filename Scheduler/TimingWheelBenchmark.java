@@ -0,0 +1,111 @@
+package com.sophiapriola.dstoolkit.scheduler;
+
+import com.sophiapriola.dstoolkit.heap.MyHeap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Simple timing harness comparing a TimingWheel with a timer queue built on
+ * MyHeap (cancellation marks the entry, which is dropped when it reaches the
+ * top). Simulated time moves in 1 ms steps; each step schedules a batch of
+ * timeouts of up to 30 s, cancels most of them and expires whatever is due,
+ * like request timeouts that usually complete in time.
+ * Run with: java TimingWheelBenchmark [steps] [perStep] [cancelPercent]
+ */
+public class TimingWheelBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final long MS = 1_000_000L;
+    private static final int MAX_DELAY_MS = 30_000;
+
+    /** Entry of the heap-based timer queue. */
+    private static final class HeapTimer {
+        final long deadline;
+        boolean cancelled;
+
+        HeapTimer(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    public static void main(String[] args) {
+        int steps = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+        int perStep = (args.length > 1) ? Integer.parseInt(args[1]) : 100;
+        int cancelPercent = (args.length > 2) ? Integer.parseInt(args[2]) : 90;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean report = round == ROUNDS - 1; // earlier rounds are JIT warm-up
+
+            long t0 = System.nanoTime();
+            long wheelFired = runWheel(steps, perStep, cancelPercent);
+            long t1 = System.nanoTime();
+            long heapFired = runHeap(steps, perStep, cancelPercent);
+            long t2 = System.nanoTime();
+
+            if (report) {
+                long ops = (long) steps * perStep;
+                System.out.printf("%d timeouts, %d%% cancelled, %d/%d expired%n",
+                        ops, cancelPercent, wheelFired, heapFired);
+                System.out.printf("TimingWheel   %6.1f ns/timeout%n", (t1 - t0) / (double) ops);
+                System.out.printf("MyHeap queue  %6.1f ns/timeout%n", (t2 - t1) / (double) ops);
+            }
+        }
+    }
+
+    private static long runWheel(int steps, int perStep, int cancelPercent) {
+        long[] clock = {0};
+        TimingWheel<Integer> wheel = new TimingWheel<>(Duration.ofMillis(1), 64, 4, () -> clock[0]);
+        Random rnd = new Random(1);
+        List<TimingWheel.Timeout<Integer>> batch = new ArrayList<>(perStep);
+        long[] fired = {0};
+
+        for (int step = 0; step < steps; step++) {
+            batch.clear();
+            for (int i = 0; i < perStep; i++) {
+                batch.add(wheel.schedule(i, Duration.ofNanos(delay(rnd))));
+            }
+            for (TimingWheel.Timeout<Integer> t : batch) {
+                if (rnd.nextInt(100) < cancelPercent) t.cancel();
+            }
+            clock[0] += MS;
+            wheel.advance(task -> fired[0]++);
+        }
+        return fired[0];
+    }
+
+    private static long runHeap(int steps, int perStep, int cancelPercent) {
+        long now = 0;
+        MyHeap<HeapTimer> heap = new MyHeap<>(Comparator.comparingLong((HeapTimer t) -> t.deadline));
+        Random rnd = new Random(1);
+        List<HeapTimer> batch = new ArrayList<>(perStep);
+        long fired = 0;
+
+        for (int step = 0; step < steps; step++) {
+            batch.clear();
+            for (int i = 0; i < perStep; i++) {
+                HeapTimer t = new HeapTimer(now + delay(rnd));
+                heap.add(t);
+                batch.add(t);
+            }
+            for (HeapTimer t : batch) {
+                if (rnd.nextInt(100) < cancelPercent) t.cancelled = true;
+            }
+            now += MS;
+            while (!heap.isEmpty() && heap.peek().deadline <= now) {
+                if (!heap.delete().cancelled) fired++;
+            }
+        }
+        return fired;
+    }
+
+    private static long delay(Random rnd) {
+        return (1 + rnd.nextInt(MAX_DELAY_MS)) * MS;
+    }
+}
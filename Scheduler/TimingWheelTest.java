@@ -0,0 +1,237 @@
+package com.sophiapriola.dstoolkit.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for TimingWheel, driven by a manual clock
+ */
+class TimingWheelTest {
+
+    private static final long MS = 1_000_000L;
+
+    /** Clock the tests move by hand. */
+    private static final class ManualClock {
+        long now;
+
+        void advance(long nanos) {
+            now += nanos;
+        }
+    }
+
+    /** 1 ms ticks, 4 slots per level, 3 levels: the wheel covers 64 ms before the heap is used. */
+    private static TimingWheel<String> smallWheel(ManualClock clock) {
+        return new TimingWheel<>(Duration.ofMillis(1), 4, 3, () -> clock.now);
+    }
+
+    @Test
+    void constructor_rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimingWheel<String>(Duration.ofMillis(1), 6, 2, System::nanoTime));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimingWheel<String>(Duration.ofMillis(1), 4, 0, System::nanoTime));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimingWheel<String>(Duration.ofMillis(1), 4, 2, null));
+    }
+
+    @Test
+    void task_expiresAtItsDeadline_neverEarly() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<String> wheel = smallWheel(clock);
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", Duration.ofMillis(3));
+        List<String> fired = new ArrayList<>();
+
+        clock.advance(3 * MS - 1);
+        assertEquals(0, wheel.advance(fired::add));
+        clock.advance(1);
+        assertEquals(1, wheel.advance(fired::add));
+        assertEquals(List.of("a"), fired);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void cancel_removesTaskInWheelAndInOverflowHeap() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<String> wheel = smallWheel(clock);
+        TimingWheel.Timeout<String> near = wheel.schedule("near", Duration.ofMillis(10));
+        TimingWheel.Timeout<String> far = wheel.schedule("far", Duration.ofMillis(500));
+        wheel.schedule("kept", Duration.ofMillis(600));
+        assertEquals(3, wheel.size());
+
+        assertTrue(near.cancel());
+        assertTrue(far.cancel());
+        assertFalse(far.cancel());
+        assertTrue(far.isCancelled());
+        assertEquals(1, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        clock.advance(1000 * MS);
+        wheel.advance(fired::add);
+        assertEquals(List.of("kept"), fired);
+    }
+
+    @Test
+    void tasksCascadeThroughLevels_andFireInDeadlineOrder() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<String> wheel = smallWheel(clock);
+        long[] delays = {63, 1, 17, 4, 16, 5, 40, 64, 200, 65, 2};
+        for (long d : delays) {
+            wheel.schedule("t" + d, Duration.ofMillis(d));
+        }
+
+        List<String> fired = new ArrayList<>();
+        for (int ms = 1; ms <= 200; ms++) {
+            clock.advance(MS);
+            List<String> now = new ArrayList<>();
+            wheel.advance(now::add);
+            for (String task : now) {
+                assertEquals("t" + ms, task); // fires on exactly the right tick
+            }
+            fired.addAll(now);
+        }
+        assertEquals(List.of("t1", "t2", "t4", "t5", "t16", "t17", "t40", "t63", "t64", "t65", "t200"), fired);
+    }
+
+    @Test
+    void advance_withLimit_drainsInBatches() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<Integer> wheel = new TimingWheel<>(Duration.ofMillis(1), 8, 2, () -> clock.now);
+        for (int i = 0; i < 10; i++) {
+            wheel.schedule(i, Duration.ofMillis(1 + i % 3));
+        }
+        clock.advance(5 * MS);
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(4, wheel.advance(batch::add, 4));
+        assertEquals(4, wheel.advance(batch::add, 4));
+        assertEquals(2, wheel.advance(batch::add, 4));
+        assertEquals(0, wheel.advance(batch::add, 4));
+        assertEquals(List.of(0, 3, 6, 9, 1, 4, 7, 2, 5, 8), batch);
+    }
+
+    @Test
+    void pastDeadline_firesOnNextAdvance() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<String> wheel = smallWheel(clock);
+        clock.advance(10 * MS);
+        wheel.advance(task -> fail());
+        wheel.scheduleAt("late", 0);
+
+        List<String> fired = new ArrayList<>();
+        clock.advance(MS);
+        wheel.advance(fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void massCancellation_purgesTheOverflowHeap() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<String> wheel = smallWheel(clock);
+        TimingWheel.Timeout<String> keep = wheel.schedule("keep", Duration.ofSeconds(1));
+        for (int round = 0; round < 100; round++) {
+            List<TimingWheel.Timeout<String>> batch = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                batch.add(wheel.schedule("far" + i, Duration.ofSeconds(10 + i)));
+            }
+            for (TimingWheel.Timeout<String> t : batch) {
+                assertTrue(t.cancel());
+            }
+            assertTrue(wheel.overflowSize() <= 3, "overflow heap holds " + wheel.overflowSize());
+        }
+        assertEquals(1, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        clock.advance(Duration.ofSeconds(1).toNanos());
+        wheel.advance(fired::add);
+        assertEquals(List.of("keep"), fired);
+        assertTrue(keep.isExpired());
+    }
+
+    @Test
+    void tickerWrappingPastLongMax_stillFiresOnTime() {
+        ManualClock clock = new ManualClock();
+        clock.now = Long.MAX_VALUE - 5 * MS;
+        TimingWheel<String> wheel = smallWheel(clock);
+        wheel.schedule("wraps", Duration.ofMillis(10));
+        wheel.scheduleAt("wrapsAt", clock.now + 20 * MS); // overflows to a negative reading
+
+        List<String> fired = new ArrayList<>();
+        clock.advance(9 * MS);
+        wheel.advance(fired::add);
+        assertEquals(List.of(), fired);
+
+        clock.advance(MS);
+        wheel.advance(fired::add);
+        assertEquals(List.of("wraps"), fired);
+
+        clock.advance(10 * MS);
+        wheel.advance(fired::add);
+        assertEquals(List.of("wraps", "wrapsAt"), fired);
+    }
+
+    @Test
+    void delayBeyondTheLongRange_neverFiresEarly() {
+        ManualClock clock = new ManualClock();
+        clock.now = Long.MAX_VALUE - 5 * MS;
+        TimingWheel<String> wheel = smallWheel(clock);
+        wheel.schedule("far", Duration.ofDays(365 * 300));
+        wheel.schedule("near", Duration.ofMillis(1));
+
+        List<String> fired = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            clock.advance(MS);
+            wheel.advance(fired::add);
+        }
+        assertEquals(List.of("near"), fired);
+    }
+
+    @Test
+    void randomScheduleAndCancel_matchesBruteForce() {
+        ManualClock clock = new ManualClock();
+        TimingWheel<Integer> wheel = new TimingWheel<>(Duration.ofMillis(1), 4, 3, () -> clock.now);
+        Random random = new Random(5);
+        List<TimingWheel.Timeout<Integer>> live = new ArrayList<>();
+        long[] deadlines = new long[20_000];
+        boolean[] cancelled = new boolean[deadlines.length];
+        int scheduled = 0;
+
+        for (int step = 0; step < 2_000; step++) {
+            for (int i = 0; i < 10 && scheduled < deadlines.length; i++) {
+                long delay = random.nextInt(random.nextBoolean() ? 70 : 1_000) * MS + random.nextInt((int) MS);
+                deadlines[scheduled] = clock.now + delay;
+                live.add(wheel.schedule(scheduled, Duration.ofNanos(delay)));
+                scheduled++;
+            }
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                TimingWheel.Timeout<Integer> victim = live.get(random.nextInt(live.size()));
+                if (victim.cancel()) cancelled[victim.task()] = true;
+            }
+            clock.advance(random.nextInt(3) * MS);
+            long now = clock.now;
+            wheel.advance(task -> {
+                assertFalse(cancelled[task]);
+                assertTrue(deadlines[task] <= now, "fired early");
+                assertTrue(deadlines[task] > now - 3 * MS, "fired late");
+                cancelled[task] = true; // mark as delivered
+            });
+        }
+        clock.advance(2_000 * MS);
+        wheel.advance(task -> cancelled[task] = true);
+        for (int i = 0; i < scheduled; i++) {
+            assertTrue(cancelled[i], "task " + i + " was lost");
+        }
+        assertTrue(wheel.isEmpty());
+    }
+}
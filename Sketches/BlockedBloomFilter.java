@@ -0,0 +1,137 @@
+package com.sophiapriola.dstoolkit.sketch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a blocked Bloom filter. The bit array is split into
+ * 512-bit blocks (eight longs, one 64-byte cache line) and all k bits for an
+ * item are set in a single block, so add and mightContain touch one cache
+ * line instead of k random ones. A false result is certain; a true result is
+ * wrong with roughly the configured probability.
+ *
+ * Filters built with the same parameters can be merged, e.g. one per thread.
+ */
+public class BlockedBloomFilter {
+
+    private static final int MAGIC = 0x424C4F31; // "BLO1"
+    private static final int LONGS_PER_BLOCK = 8;
+    private static final int BLOCK_BITS = LONGS_PER_BLOCK * Long.SIZE;
+    private static final int MAX_HASHES = 16;
+
+    private final long[] bits;
+    private final int blocks;
+    private final int hashes;
+
+    /** Creates a filter for expectedInsertions items with the given false-positive probability. */
+    public BlockedBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        // blocking adds collisions inside a block, so size for a slightly lower rate
+        double bitsNeeded = -expectedInsertions * Math.log(falsePositiveRate * 0.8) / (ln2 * ln2);
+        long blockCount = Math.max(1, (long) Math.ceil(bitsNeeded / BLOCK_BITS));
+        if (blockCount > Integer.MAX_VALUE / LONGS_PER_BLOCK) {
+            throw new IllegalArgumentException("filter would be too large");
+        }
+        this.blocks = (int) blockCount;
+        this.hashes = (int) Math.max(1, Math.min(MAX_HASHES,
+                Math.round(bitsNeeded / expectedInsertions * ln2)));
+        this.bits = new long[blocks * LONGS_PER_BLOCK];
+    }
+
+    private BlockedBloomFilter(int blocks, int hashes, long[] bits) {
+        this.blocks = blocks;
+        this.hashes = hashes;
+        this.bits = bits;
+    }
+
+    /** Returns the number of bits in the filter. */
+    public long bitSize() {
+        return (long) bits.length * Long.SIZE;
+    }
+
+    /** Returns how many bits each item sets. */
+    public int hashCount() {
+        return hashes;
+    }
+
+    /** Adds an item identified by a 64-bit key. */
+    public void add(long key) {
+        long h = Hashing.mix(key);
+        int base = Hashing.reduce((int) (h >>> 32), blocks) * LONGS_PER_BLOCK;
+        // probes use only the low 32 bits, which play no part in picking the block
+        int h1 = (int) h;
+        int h2 = (h1 >>> 16) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+            bits[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /** Adds an item using its hashCode. */
+    public void add(Object item) {
+        add(Hashing.hash(item));
+    }
+
+    /** Returns false if the key was definitely never added. */
+    public boolean mightContain(long key) {
+        long h = Hashing.mix(key);
+        int base = Hashing.reduce((int) (h >>> 32), blocks) * LONGS_PER_BLOCK;
+        int h1 = (int) h;
+        int h2 = (h1 >>> 16) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns false if the item was definitely never added. */
+    public boolean mightContain(Object item) {
+        return mightContain(Hashing.hash(item));
+    }
+
+    /** Adds every item of other to this filter; both must have been built with the same parameters. */
+    public void merge(BlockedBloomFilter other) {
+        if (other == null || other.blocks != blocks || other.hashes != hashes) {
+            throw new IllegalArgumentException("filters must have the same size and hash count");
+        }
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+        }
+    }
+
+    /** Serializes the filter to a compact byte array. */
+    public byte[] toByteArray() {
+        ByteBuffer out = ByteBuffer.allocate(12 + bits.length * Long.BYTES);
+        out.putInt(MAGIC).putInt(blocks).putInt(hashes);
+        out.asLongBuffer().put(bits);
+        return out.array();
+    }
+
+    /** Restores a filter written by toByteArray. */
+    public static BlockedBloomFilter fromByteArray(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (bytes.length < 12 || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("not a serialized BlockedBloomFilter");
+        }
+        int blocks = in.getInt();
+        int hashes = in.getInt();
+        if (blocks <= 0 || hashes <= 0 || hashes > MAX_HASHES
+                || in.remaining() != (long) blocks * LONGS_PER_BLOCK * Long.BYTES) {
+            throw new IllegalArgumentException("corrupt BlockedBloomFilter header");
+        }
+        long[] bits = new long[blocks * LONGS_PER_BLOCK];
+        in.asLongBuffer().get(bits);
+        return new BlockedBloomFilter(blocks, hashes, bits);
+    }
+}
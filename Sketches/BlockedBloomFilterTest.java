@@ -0,0 +1,79 @@
+package com.sophiapriola.dstoolkit.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for BlockedBloomFilter
+ */
+class BlockedBloomFilterTest {
+
+    @Test
+    void constructor_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(100, 1));
+    }
+
+    @Test
+    void addedItems_areAlwaysFound() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) filter.add(i);
+        for (long i = 0; i < 10_000; i++) assertTrue(filter.mightContain(i));
+
+        filter.add("hello");
+        assertTrue(filter.mightContain("hello"));
+    }
+
+    @Test
+    void falsePositiveRate_staysNearTarget() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(100_000, 0.01);
+        for (long i = 0; i < 100_000; i++) filter.add(i);
+
+        int falsePositives = 0;
+        for (long i = 1_000_000; i < 1_100_000; i++) if (filter.mightContain(i)) falsePositives++;
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void falsePositiveRate_staysNearTarget_atMillionsOfItems() {
+        // with ~200k blocks, probe bits that overlap the block index bits show up as extra false positives
+        int n = 10_000_000;
+        BlockedBloomFilter filter = new BlockedBloomFilter(n, 0.01);
+        for (long i = 0; i < n; i++) filter.add(i);
+
+        int falsePositives = 0;
+        for (long i = n; i < n + 1_000_000L; i++) if (filter.mightContain(i)) falsePositives++;
+        assertTrue(falsePositives < 15_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void merge_containsBothInputs() {
+        BlockedBloomFilter a = new BlockedBloomFilter(1_000, 0.01);
+        BlockedBloomFilter b = new BlockedBloomFilter(1_000, 0.01);
+        for (long i = 0; i < 500; i++) a.add(i);
+        for (long i = 500; i < 1_000; i++) b.add(i);
+
+        a.merge(b);
+        for (long i = 0; i < 1_000; i++) assertTrue(a.mightContain(i));
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new BlockedBloomFilter(50_000, 0.01)));
+    }
+
+    @Test
+    void byteArray_roundTrips() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(1_000, 0.01);
+        for (long i = 0; i < 1_000; i++) filter.add(i * 7);
+
+        byte[] bytes = filter.toByteArray();
+        BlockedBloomFilter copy = BlockedBloomFilter.fromByteArray(bytes);
+        assertEquals(filter.bitSize(), copy.bitSize());
+        assertEquals(filter.hashCount(), copy.hashCount());
+        for (long i = 0; i < 1_000; i++) assertTrue(copy.mightContain(i * 7));
+
+        assertThrows(IllegalArgumentException.class, () -> BlockedBloomFilter.fromByteArray(new byte[4]));
+    }
+}
@@ -0,0 +1,256 @@
+package com.sophiapriola.dstoolkit.sketch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * This class implements a cuckoo filter: an approximate set that, unlike a
+ * Bloom filter, supports deletion. Each item is reduced to a 16-bit
+ * fingerprint stored in one of two candidate buckets. A bucket holds four
+ * fingerprints packed into a single long, so a lookup reads at most two longs
+ * and compares all four lanes at once. When both buckets are full, resident
+ * fingerprints are kicked to their alternate bucket, cuckoo-hashing style.
+ *
+ * Only remove items that were added; removing anything else may delete a
+ * colliding item's fingerprint and cause a false negative.
+ */
+public class CuckooFilter {
+
+    private static final int MAGIC = 0x43554331; // "CUC1"
+    private static final int SLOTS = 4;
+    private static final int MAX_KICKS = 500;
+    private static final long LANES = 0x0001000100010001L;
+    private static final long HIGH_BITS = 0x8000800080008000L;
+    private static final int MAX_BUCKETS = 1 << 30;
+
+    private final long[] buckets;
+    private final int bucketMask;
+    private int size;
+    private int stashFingerprint; // 0 = empty; holds the one fingerprint left homeless by a failed add
+    private int stashIndex;
+    private long random = 0x9E3779B97F4A7C15L;
+
+    /** Creates a filter that can hold about capacity items. */
+    public CuckooFilter(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        long needed = (long) Math.ceil(capacity / (SLOTS * 0.95));
+        int count = 1;
+        while (count < needed) {
+            if (count == MAX_BUCKETS) {
+                throw new IllegalArgumentException("capacity is too large");
+            }
+            count <<= 1;
+        }
+        this.buckets = new long[count];
+        this.bucketMask = count - 1;
+    }
+
+    private CuckooFilter(long[] buckets, int size, int stashFingerprint, int stashIndex) {
+        this.buckets = buckets;
+        this.bucketMask = buckets.length - 1;
+        this.size = size;
+        this.stashFingerprint = stashFingerprint;
+        this.stashIndex = stashIndex;
+    }
+
+    /** Returns the number of items in the filter. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the filter has no items. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Adds an item identified by a 64-bit key; returns false if the filter is full. */
+    public boolean add(long key) {
+        long h = Hashing.mix(key);
+        return insert(index(h), fingerprint(h));
+    }
+
+    /** Adds an item using its hashCode; returns false if the filter is full. */
+    public boolean add(Object item) {
+        return add(Hashing.hash(item));
+    }
+
+    /** Returns false if the key is definitely not in the filter. */
+    public boolean mightContain(long key) {
+        long h = Hashing.mix(key);
+        int fp = fingerprint(h);
+        int i1 = index(h);
+        int i2 = altIndex(i1, fp);
+        return hasFingerprint(buckets[i1], fp) || hasFingerprint(buckets[i2], fp)
+                || (stashFingerprint == fp && (stashIndex == i1 || stashIndex == i2));
+    }
+
+    /** Returns false if the item is definitely not in the filter. */
+    public boolean mightContain(Object item) {
+        return mightContain(Hashing.hash(item));
+    }
+
+    /** Removes one copy of a previously added key; returns false if none was found. */
+    public boolean remove(long key) {
+        long h = Hashing.mix(key);
+        int fp = fingerprint(h);
+        int i1 = index(h);
+        int i2 = altIndex(i1, fp);
+
+        if (stashFingerprint == fp && (stashIndex == i1 || stashIndex == i2)) {
+            stashFingerprint = 0;
+            size--;
+            return true;
+        }
+        if (!deleteFrom(i1, fp) && !deleteFrom(i2, fp)) {
+            return false;
+        }
+        size--;
+        if (stashFingerprint != 0) {
+            // a slot opened up; give the stashed fingerprint another chance
+            int fpStash = stashFingerprint;
+            stashFingerprint = 0;
+            size--;
+            insert(stashIndex, fpStash);
+        }
+        return true;
+    }
+
+    /** Removes one copy of a previously added item; returns false if none was found. */
+    public boolean remove(Object item) {
+        return remove(Hashing.hash(item));
+    }
+
+    /**
+     * Adds every fingerprint of other to this filter. Both must have the same
+     * capacity. Returns false if this filter filled up part way.
+     */
+    public boolean merge(CuckooFilter other) {
+        if (other == null || other.buckets.length != buckets.length) {
+            throw new IllegalArgumentException("filters must have the same capacity");
+        }
+        for (int i = 0; i < other.buckets.length; i++) {
+            long bucket = other.buckets[i];
+            for (int slot = 0; slot < SLOTS; slot++) {
+                int fp = (int) (bucket >>> (slot << 4)) & 0xffff;
+                if (fp != 0 && !insert(i, fp)) {
+                    return false;
+                }
+            }
+        }
+        return other.stashFingerprint == 0 || insert(other.stashIndex, other.stashFingerprint);
+    }
+
+    /** Serializes the filter to a compact byte array. */
+    public byte[] toByteArray() {
+        ByteBuffer out = ByteBuffer.allocate(20 + buckets.length * Long.BYTES);
+        out.putInt(MAGIC).putInt(buckets.length).putInt(size).putInt(stashFingerprint).putInt(stashIndex);
+        out.asLongBuffer().put(buckets);
+        return out.array();
+    }
+
+    /** Restores a filter written by toByteArray. */
+    public static CuckooFilter fromByteArray(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (bytes.length < 20 || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("not a serialized CuckooFilter");
+        }
+        int count = in.getInt();
+        int size = in.getInt();
+        int stashFingerprint = in.getInt();
+        int stashIndex = in.getInt();
+        if (count <= 0 || Integer.bitCount(count) != 1 || size < 0
+                || (stashFingerprint & ~0xffff) != 0 || stashIndex < 0 || stashIndex >= count
+                || in.remaining() != (long) count * Long.BYTES) {
+            throw new IllegalArgumentException("corrupt CuckooFilter header");
+        }
+        long[] buckets = new long[count];
+        in.asLongBuffer().get(buckets);
+        return new CuckooFilter(buckets, size, stashFingerprint, stashIndex);
+    }
+
+    /** Places fp in bucket i or its alternate, relocating residents if both are full. */
+    private boolean insert(int i, int fp) {
+        if (stashFingerprint != 0) {
+            return false;
+        }
+        if (tryPut(i, fp) || tryPut(altIndex(i, fp), fp)) {
+            size++;
+            return true;
+        }
+        if ((nextRandom() & 1) == 0) {
+            i = altIndex(i, fp);
+        }
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int shift = (int) (nextRandom() & (SLOTS - 1)) << 4;
+            int evicted = (int) (buckets[i] >>> shift) & 0xffff;
+            buckets[i] = (buckets[i] & ~(0xffffL << shift)) | ((long) fp << shift);
+            fp = evicted;
+            i = altIndex(i, fp);
+            if (tryPut(i, fp)) {
+                size++;
+                return true;
+            }
+        }
+        // keep the homeless fingerprint so no added item is ever lost
+        stashFingerprint = fp;
+        stashIndex = i;
+        size++;
+        return true;
+    }
+
+    /** Stores fp in an empty slot of bucket i, if there is one. */
+    private boolean tryPut(int i, int fp) {
+        long bucket = buckets[i];
+        for (int shift = 0; shift < Long.SIZE; shift += 16) {
+            if (((bucket >>> shift) & 0xffff) == 0) {
+                buckets[i] = bucket | ((long) fp << shift);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Clears one slot of bucket i that holds fp, if there is one. */
+    private boolean deleteFrom(int i, int fp) {
+        long bucket = buckets[i];
+        for (int shift = 0; shift < Long.SIZE; shift += 16) {
+            if (((bucket >>> shift) & 0xffff) == fp) {
+                buckets[i] = bucket & ~(0xffffL << shift);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** True if any 16-bit lane of bucket equals fp (SWAR zero-lane test). */
+    private static boolean hasFingerprint(long bucket, int fp) {
+        long x = bucket ^ (fp * LANES);
+        return ((x - LANES) & ~x & HIGH_BITS) != 0;
+    }
+
+    private int index(long h) {
+        return (int) h & bucketMask;
+    }
+
+    /** The other bucket for fp; applying it twice returns the original index. */
+    private int altIndex(int i, int fp) {
+        return (i ^ (int) Hashing.mix(fp)) & bucketMask;
+    }
+
+    /** 16-bit non-zero fingerprint taken from bits the bucket index does not use. */
+    private static int fingerprint(long h) {
+        int fp = (int) (h >>> 48);
+        return (fp == 0) ? 1 : fp;
+    }
+
+    private long nextRandom() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return random;
+    }
+}
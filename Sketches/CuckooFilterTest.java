@@ -0,0 +1,86 @@
+package com.sophiapriola.dstoolkit.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for CuckooFilter
+ */
+class CuckooFilterTest {
+
+    @Test
+    void newFilter_startsEmpty() {
+        CuckooFilter filter = new CuckooFilter(100);
+        assertTrue(filter.isEmpty());
+        assertFalse(filter.mightContain(1L));
+    }
+
+    @Test
+    void add_andRemove_work() {
+        CuckooFilter filter = new CuckooFilter(10_000);
+        for (long i = 0; i < 9_000; i++) assertTrue(filter.add(i));
+        assertEquals(9_000, filter.size());
+        for (long i = 0; i < 9_000; i++) assertTrue(filter.mightContain(i));
+
+        for (long i = 0; i < 9_000; i += 2) assertTrue(filter.remove(i));
+        assertEquals(4_500, filter.size());
+        for (long i = 1; i < 9_000; i += 2) assertTrue(filter.mightContain(i));
+
+        int stillPresent = 0;
+        for (long i = 0; i < 9_000; i += 2) if (filter.mightContain(i)) stillPresent++;
+        assertTrue(stillPresent < 100, "removed keys still reported: " + stillPresent);
+    }
+
+    @Test
+    void falsePositiveRate_isLow() {
+        CuckooFilter filter = new CuckooFilter(50_000);
+        for (long i = 0; i < 50_000; i++) filter.add(i);
+
+        int falsePositives = 0;
+        for (long i = 1_000_000; i < 1_100_000; i++) if (filter.mightContain(i)) falsePositives++;
+        assertTrue(falsePositives < 500, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void overfilling_reportsFull_withoutLosingItems() {
+        CuckooFilter filter = new CuckooFilter(64);
+        long added = 0;
+        while (filter.add(added)) added++;
+
+        assertTrue(added >= 64);
+        for (long i = 0; i < added; i++) assertTrue(filter.mightContain(i));
+    }
+
+    @Test
+    void merge_andByteArray_roundTrip() {
+        CuckooFilter a = new CuckooFilter(2_000);
+        CuckooFilter b = new CuckooFilter(2_000);
+        for (long i = 0; i < 800; i++) a.add(i);
+        for (long i = 800; i < 1_600; i++) b.add(i);
+
+        assertTrue(a.merge(b));
+        assertEquals(1_600, a.size());
+
+        CuckooFilter copy = CuckooFilter.fromByteArray(a.toByteArray());
+        assertEquals(1_600, copy.size());
+        for (long i = 0; i < 1_600; i++) assertTrue(copy.mightContain(i));
+        assertThrows(IllegalArgumentException.class, () -> CuckooFilter.fromByteArray(new byte[3]));
+    }
+
+    @Test
+    void fromByteArray_rejectsStashFingerprintWiderThan16Bits() {
+        byte[] bytes = new CuckooFilter(100).toByteArray();
+        for (int stash : new int[] {0x10000, -1}) {
+            ByteBuffer.wrap(bytes).putInt(12, stash); // after magic, bucket count and size
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> CuckooFilter.fromByteArray(bytes));
+            assertEquals("corrupt CuckooFilter header", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sophiapriola.dstoolkit.sketch;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * 64-bit hash finalizer shared by the sketches. Every sketch mixes its input
+ * through here, so callers may pass raw ids or hashCodes and still get
+ * well-spread bits.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /** SplitMix64 finalizer: a bijection on longs with full avalanche. */
+    static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    /** Hashes an object through its hashCode. */
+    static long hash(Object item) {
+        if (item == null) {
+            throw new IllegalArgumentException("item cannot be null");
+        }
+        return mix(item.hashCode() * 0x9E3779B97F4A7C15L);
+    }
+
+    /** Maps a 32-bit value uniformly onto [0, n) without division. */
+    static int reduce(int hash, int n) {
+        return (int) (((hash & 0xffffffffL) * n) >>> 32);
+    }
+}
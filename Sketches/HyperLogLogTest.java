@@ -0,0 +1,66 @@
+package com.sophiapriola.dstoolkit.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for HyperLogLog
+ */
+class HyperLogLogTest {
+
+    @Test
+    void constructor_invalidPrecision_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(19));
+    }
+
+    @Test
+    void empty_estimatesZero() {
+        assertEquals(0, new HyperLogLog().cardinality());
+    }
+
+    @Test
+    void smallCounts_areNearlyExact() {
+        HyperLogLog hll = new HyperLogLog();
+        for (long i = 0; i < 100; i++) hll.add(i);
+        for (long i = 0; i < 100; i++) hll.add(i); // duplicates do not count
+        assertEquals(100, hll.cardinality(), 2);
+    }
+
+    @Test
+    void largeCounts_stayWithinThreeStandardErrors() {
+        HyperLogLog hll = new HyperLogLog(14);
+        int n = 1_000_000;
+        for (long i = 0; i < n; i++) hll.add(i);
+
+        double error = Math.abs(hll.cardinality() - n) / (double) n;
+        assertTrue(error < 3 * 1.04 / Math.sqrt(1 << 14), "relative error " + error);
+    }
+
+    @Test
+    void merge_estimatesUnion() {
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(12);
+        for (long i = 0; i < 60_000; i++) a.add(i);
+        for (long i = 40_000; i < 100_000; i++) b.add(i);
+
+        a.merge(b);
+        assertEquals(100_000, a.cardinality(), 100_000 * 0.05);
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    void byteArray_roundTrips() {
+        HyperLogLog hll = new HyperLogLog(10);
+        for (long i = 0; i < 5_000; i++) hll.add("item-" + i);
+
+        HyperLogLog copy = HyperLogLog.fromByteArray(hll.toByteArray());
+        assertEquals(hll.precision(), copy.precision());
+        assertEquals(hll.cardinality(), copy.cardinality());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[8]));
+    }
+}
@@ -0,0 +1,17 @@
+package com.sophiapriola.dstoolkit.snapshot;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Layout of the elements in a snapshot, recorded in its header so a reader
+ * cannot load a snapshot into the wrong kind of structure.
+ */
+public enum SnapshotKind {
+
+    /** Strictly increasing elements, e.g. an in-order walk of a search tree. */
+    SORTED,
+
+    /** A binary heap's backing array in index order. */
+    HEAP_ARRAY
+}
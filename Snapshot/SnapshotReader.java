@@ -0,0 +1,135 @@
+package com.sophiapriola.dstoolkit.snapshot;
+
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32C;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Streams elements back out of a snapshot written by SnapshotWriter, reading
+ * the channel through one fixed-size direct buffer. The checksum covers the
+ * whole stream and is only known at the end, so callers must call finish
+ * after the last element and discard what they built if it throws.
+ */
+public final class SnapshotReader<T> {
+
+    private final ReadableByteChannel in;
+    private final ElementCodec<T> codec;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(SnapshotWriter.BUFFER_BYTES);
+    private final CRC32C crc = new CRC32C();
+    private final long count;
+    private long read;
+
+    /** Reads and validates the header; fails if the snapshot is not of the expected kind. */
+    public SnapshotReader(ReadableByteChannel in, ElementCodec<T> codec, SnapshotKind expected)
+            throws IOException {
+        if (in == null || codec == null || expected == null) {
+            throw new IllegalArgumentException("channel, codec and kind cannot be null");
+        }
+        this.in = in;
+        this.codec = codec;
+        buffer.limit(0);
+
+        ByteBuffer header = take(SnapshotWriter.HEADER_BYTES);
+        if (header.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("not a snapshot");
+        }
+        short version = header.getShort();
+        if (version != SnapshotWriter.VERSION) {
+            throw new IOException("unsupported snapshot version " + version);
+        }
+        int kind = header.get();
+        header.get(); // reserved
+        if (kind != expected.ordinal()) {
+            String found = (kind >= 0 && kind < SnapshotKind.values().length)
+                    ? SnapshotKind.values()[kind].name() : "unknown kind " + kind;
+            throw new IOException("snapshot holds " + found + ", expected " + expected);
+        }
+        count = header.getLong();
+        if (count < 0) {
+            throw new IOException("corrupt snapshot: negative element count");
+        }
+    }
+
+    /** Number of elements declared in the header. */
+    public long count() {
+        return count;
+    }
+
+    /** Returns true if next has elements left to return. */
+    public boolean hasNext() {
+        return read < count;
+    }
+
+    /** Decodes the next element. */
+    public T next() throws IOException {
+        if (read == count) {
+            throw new NoSuchElementException("all " + count + " elements have been read");
+        }
+        int size = take(Integer.BYTES).getInt();
+        if (size < 0) {
+            throw new IOException("corrupt snapshot: negative element size");
+        }
+        read++;
+        return codec.read(take(size));
+    }
+
+    /** Verifies the trailing checksum once every element has been read. */
+    public void finish() throws IOException {
+        if (read != count) {
+            throw new IllegalStateException("read " + read + " of " + count + " elements");
+        }
+        fill(Integer.BYTES);
+        if (buffer.getInt() != (int) crc.getValue()) {
+            throw new IOException("snapshot checksum mismatch");
+        }
+    }
+
+    /** Returns the next n bytes as their own buffer and adds them to the checksum. */
+    private ByteBuffer take(int n) throws IOException {
+        ByteBuffer bytes;
+        if (n <= buffer.capacity()) {
+            fill(n);
+            bytes = buffer.slice(buffer.position(), n);
+            buffer.position(buffer.position() + n);
+        } else {
+            // n comes from an unverified length prefix, so grow with the bytes that
+            // actually arrive rather than trusting it for one large allocation
+            bytes = ByteBuffer.allocate(Math.min(n, buffer.capacity() * 2));
+            bytes.put(buffer);
+            while (bytes.position() < n) {
+                if (!bytes.hasRemaining()) {
+                    bytes = ByteBuffer.allocate((int) Math.min(n, 2L * bytes.capacity())).put(bytes.flip());
+                }
+                if (in.read(bytes) < 0) {
+                    throw new IOException("corrupt snapshot: element of " + n
+                            + " bytes runs past the end of the stream");
+                }
+            }
+            bytes.flip();
+        }
+        crc.update(bytes.duplicate());
+        return bytes;
+    }
+
+    /** Makes at least n bytes available in the buffer. */
+    private void fill(int n) throws IOException {
+        if (buffer.remaining() >= n) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < n) {
+            if (in.read(buffer) < 0) {
+                throw new EOFException("snapshot is truncated");
+            }
+        }
+        buffer.flip();
+    }
+}
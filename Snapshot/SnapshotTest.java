@@ -0,0 +1,134 @@
+package com.sophiapriola.dstoolkit.snapshot;
+
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Testing class for the snapshot writer and reader
+ */
+class SnapshotTest {
+
+    private static <T> byte[] write(ElementCodec<T> codec, SnapshotKind kind, List<T> elements) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotWriter<T> writer = new SnapshotWriter<>(Channels.newChannel(bytes), codec, kind, elements.size());
+        for (T e : elements) {
+            writer.write(e);
+        }
+        writer.finish();
+        return bytes.toByteArray();
+    }
+
+    private static <T> List<T> read(byte[] snapshot, ElementCodec<T> codec, SnapshotKind kind) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<>(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)), codec, kind);
+        List<T> out = new ArrayList<>();
+        while (reader.hasNext()) {
+            out.add(reader.next());
+        }
+        reader.finish();
+        return out;
+    }
+
+    @Test
+    void roundTrip_spanningManyBuffers() throws IOException {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            elements.add("element-" + i);
+        }
+        byte[] snapshot = write(ElementCodec.STRING, SnapshotKind.SORTED, elements);
+        assertTrue(snapshot.length > SnapshotWriter.BUFFER_BYTES);
+        assertEquals(elements, read(snapshot, ElementCodec.STRING, SnapshotKind.SORTED));
+    }
+
+    @Test
+    void roundTrip_elementLargerThanBuffer() throws IOException {
+        byte[] large = new byte[SnapshotWriter.BUFFER_BYTES * 3 + 7];
+        Arrays.fill(large, (byte) 42);
+        List<byte[]> elements = List.of(new byte[] {1}, large, new byte[0], new byte[] {2, 3});
+
+        List<byte[]> back = read(write(ElementCodec.BYTES, SnapshotKind.HEAP_ARRAY, elements),
+                ElementCodec.BYTES, SnapshotKind.HEAP_ARRAY);
+        assertEquals(elements.size(), back.size());
+        for (int i = 0; i < elements.size(); i++) {
+            assertArrayEquals(elements.get(i), back.get(i));
+        }
+    }
+
+    @Test
+    void emptySnapshot_roundTrips() throws IOException {
+        assertEquals(List.of(), read(write(ElementCodec.INT, SnapshotKind.SORTED, List.of()),
+                ElementCodec.INT, SnapshotKind.SORTED));
+    }
+
+    @Test
+    void flippedByte_failsChecksum() throws IOException {
+        byte[] snapshot = write(ElementCodec.INT, SnapshotKind.SORTED, List.of(1, 2, 3));
+        snapshot[SnapshotWriter.HEADER_BYTES + 5] ^= 1; // inside the first element
+        IOException e = assertThrows(IOException.class,
+                () -> read(snapshot, ElementCodec.INT, SnapshotKind.SORTED));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void truncatedSnapshot_throwsEof() throws IOException {
+        byte[] snapshot = write(ElementCodec.LONG, SnapshotKind.SORTED, List.of(1L, 2L, 3L));
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 6);
+        assertThrows(EOFException.class, () -> read(truncated, ElementCodec.LONG, SnapshotKind.SORTED));
+    }
+
+    @Test
+    void hugeLengthPrefix_failsWithoutAllocatingIt() throws IOException {
+        byte[] snapshot = write(ElementCodec.INT, SnapshotKind.HEAP_ARRAY, List.of(1, 2));
+        ByteBuffer.wrap(snapshot).putInt(SnapshotWriter.HEADER_BYTES, 0x7ffffff0); // first element's length
+        IOException e = assertThrows(IOException.class,
+                () -> read(snapshot, ElementCodec.INT, SnapshotKind.HEAP_ARRAY));
+        assertTrue(e.getMessage().contains("corrupt snapshot"));
+    }
+
+    @Test
+    void wrongKindOrMagic_isRejected() throws IOException {
+        byte[] snapshot = write(ElementCodec.INT, SnapshotKind.HEAP_ARRAY, List.of(1));
+        IOException kind = assertThrows(IOException.class,
+                () -> read(snapshot, ElementCodec.INT, SnapshotKind.SORTED));
+        assertTrue(kind.getMessage().contains("HEAP_ARRAY"));
+
+        snapshot[0] = 0;
+        assertThrows(IOException.class, () -> read(snapshot, ElementCodec.INT, SnapshotKind.HEAP_ARRAY));
+    }
+
+    @Test
+    void writer_enforcesDeclaredCount() throws IOException {
+        SnapshotWriter<Integer> writer = new SnapshotWriter<>(
+                Channels.newChannel(new ByteArrayOutputStream()), ElementCodec.INT, SnapshotKind.SORTED, 1);
+        assertThrows(IllegalStateException.class, writer::finish);
+        writer.write(1);
+        assertThrows(IllegalStateException.class, () -> writer.write(2));
+    }
+
+    @Test
+    void reader_nextPastCount_throws() throws IOException {
+        byte[] snapshot = write(ElementCodec.INT, SnapshotKind.SORTED, List.of(7));
+        SnapshotReader<Integer> reader = new SnapshotReader<>(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)), ElementCodec.INT, SnapshotKind.SORTED);
+        assertEquals(1, reader.count());
+        assertEquals(7, reader.next());
+        assertThrows(NoSuchElementException.class, reader::next);
+        reader.finish();
+    }
+}
@@ -0,0 +1,120 @@
+package com.sophiapriola.dstoolkit.snapshot;
+
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ *
+ * Streams a snapshot to a channel through one fixed-size direct buffer, so
+ * writing never holds more than a buffer's worth of encoded elements.
+ *
+ * Format (big-endian): a 16-byte header (magic "DSS1", version, kind,
+ * element count), then each element as a 4-byte length followed by its
+ * codec bytes, then a CRC32C of everything before it. The element count is
+ * declared up front and finish fails if a different number was written.
+ * The channel is never closed here; the caller owns it.
+ */
+public final class SnapshotWriter<T> {
+
+    static final int MAGIC = 0x44535331; // "DSS1"
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int BUFFER_BYTES = 1 << 16;
+
+    private final WritableByteChannel out;
+    private final ElementCodec<T> codec;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final CRC32C crc = new CRC32C();
+    private final long count;
+    private long written;
+    private boolean finished;
+
+    /** Writes the header for a snapshot of count elements of the given kind. */
+    public SnapshotWriter(WritableByteChannel out, ElementCodec<T> codec, SnapshotKind kind, long count)
+            throws IOException {
+        if (out == null || codec == null || kind == null) {
+            throw new IllegalArgumentException("channel, codec and kind cannot be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count cannot be negative");
+        }
+        this.out = out;
+        this.codec = codec;
+        this.count = count;
+        buffer.putInt(MAGIC).putShort(VERSION).put((byte) kind.ordinal()).put((byte) 0).putLong(count);
+    }
+
+    /** Appends one element. */
+    public void write(T element) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("snapshot is already finished");
+        }
+        if (written == count) {
+            throw new IllegalStateException("snapshot was declared with " + count + " elements");
+        }
+        int size = codec.sizeOf(element);
+        if (size < 0) {
+            throw new IllegalStateException("codec reported a negative size");
+        }
+        if (Integer.BYTES + size > buffer.remaining()) {
+            flush();
+        }
+        buffer.putInt(size);
+        if (Integer.BYTES + size <= buffer.capacity()) {
+            int start = buffer.position();
+            codec.write(element, buffer);
+            checkWritten(buffer.position() - start, size);
+        } else {
+            // larger than the whole buffer: encode it on its own and write it straight through
+            flush();
+            ByteBuffer large = ByteBuffer.allocate(size);
+            codec.write(element, large);
+            checkWritten(large.position(), size);
+            large.flip();
+            crc.update(large.duplicate());
+            writeFully(large);
+        }
+        written++;
+    }
+
+    /** Writes the checksum and pushes everything to the channel. */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (written != count) {
+            throw new IllegalStateException("wrote " + written + " of " + count + " declared elements");
+        }
+        flush();
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+        finished = true;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            out.write(src);
+        }
+    }
+
+    private static void checkWritten(int actual, int declared) {
+        if (actual != declared) {
+            throw new IllegalStateException("codec wrote " + actual + " bytes but sizeOf reported " + declared);
+        }
+    }
+}
@@ -1,5 +1,17 @@
 package com.sophiapriola.dstoolkit.tree;
 
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+import com.sophiapriola.dstoolkit.metrics.Counters;
+import com.sophiapriola.dstoolkit.metrics.RebuildEvent;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
+import com.sophiapriola.dstoolkit.snapshot.SnapshotKind;
+import com.sophiapriola.dstoolkit.snapshot.SnapshotReader;
+import com.sophiapriola.dstoolkit.snapshot.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -25,9 +37,16 @@ public class AVLTree<T> {
         }
     }
 
+    // metric counter indexes
+    private static final int INSERTS = 0;
+    private static final int COMPARISONS = 1;
+    private static final int ROTATIONS = 2;
+    private static final int HEIGHT = 3;
+
     private Node<T> root;
     private int size;
     private final Comparator<? super T> comparator;
+    private Counters metrics; // null until enableMetrics is called
 
     public AVLTree(Comparator<? super T> comparator) {
         if (comparator == null) throw new IllegalArgumentException("Comparator cannot be null");
@@ -44,6 +63,19 @@ public class AVLTree<T> {
         return size == 0;
     }
 
+    /**
+     * Starts counting inserts, comparisons and single rotations (a double
+     * rotation counts as two), tracks the current height, and returns the live
+     * counters. Until this is called the tree pays only a null check per step.
+     */
+    public StructureMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new Counters("AVLTree", "inserts", "comparisons", "rotations", "height");
+            metrics.set(HEIGHT, height());
+        }
+        return metrics;
+    }
+
     /** Height of the tree (0 if empty). */
     public int height() {
         return height(root);
@@ -54,6 +86,7 @@ public class AVLTree<T> {
         if (value == null) throw new IllegalArgumentException("value cannot be null");
         Node<T> cur = root;
         while (cur != null) {
+            if (metrics != null) metrics.increment(COMPARISONS);
             int cmp = comparator.compare(value, cur.data);
             if (cmp == 0) return true;
             cur = (cmp < 0) ? cur.left : cur.right;
@@ -65,6 +98,10 @@ public class AVLTree<T> {
     public void insert(T value) {
         if (value == null) throw new IllegalArgumentException("value cannot be null");
         root = insert(root, value);
+        if (metrics != null) {
+            metrics.increment(INSERTS);
+            metrics.set(HEIGHT, height(root));
+        }
     }
 
     /** Returns an in-order traversal (sorted by comparator). */
@@ -74,6 +111,54 @@ public class AVLTree<T> {
         return out;
     }
 
+    /**
+     * Streams every element in sorted order to out as a SORTED snapshot, which
+     * readSnapshot reloads in O(n). The channel is left open.
+     */
+    public void writeSnapshot(WritableByteChannel out, ElementCodec<T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<>(out, codec, SnapshotKind.SORTED, size);
+        ArrayDeque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> cur = root;
+        while (cur != null || !stack.isEmpty()) {
+            while (cur != null) {
+                stack.push(cur);
+                cur = cur.left;
+            }
+            cur = stack.pop();
+            writer.write(cur.data);
+            cur = cur.right;
+        }
+        writer.finish();
+    }
+
+    /**
+     * Rebuilds a tree from a snapshot written by writeSnapshot. Elements are
+     * streamed straight into a perfectly balanced tree in O(n) time with no
+     * comparisons beyond an order check and no rotations; comparator must
+     * order them the same way as the tree that wrote the snapshot.
+     */
+    public static <T> AVLTree<T> readSnapshot(ReadableByteChannel in, ElementCodec<T> codec,
+                                              Comparator<? super T> comparator) throws IOException {
+        AVLTree<T> tree = new AVLTree<>(comparator);
+        RebuildEvent event = new RebuildEvent();
+        event.begin();
+        SnapshotReader<T> reader = new SnapshotReader<>(in, codec, SnapshotKind.SORTED);
+        if (reader.count() > Integer.MAX_VALUE) {
+            throw new IOException("snapshot has too many elements for an AVLTree");
+        }
+        int count = (int) reader.count();
+        tree.root = tree.build(new SortedSource<>(reader, comparator), count);
+        reader.finish();
+        tree.size = count;
+
+        if (event.shouldCommit()) {
+            event.structure = "AVLTree";
+            event.elements = count;
+            event.commit();
+        }
+        return tree;
+    }
+
 
     /** Helper method to insert a value into the tree */
     private Node<T> insert(Node<T> node, T value) {
@@ -82,6 +167,7 @@ public class AVLTree<T> {
             return new Node<>(value);
         }
 
+        if (metrics != null) metrics.increment(COMPARISONS);
         int cmp = comparator.compare(value, node.data);
         if (cmp < 0) {
             node.left = insert(node.left, value);
@@ -96,6 +182,46 @@ public class AVLTree<T> {
         return rebalance(node);
     }
 
+    /**
+     * Helper method to build a balanced subtree from the next n sorted
+     * elements: left half first, then the root, then the right half, so the
+     * elements are consumed in order. Recursion depth is O(log n).
+     */
+    private Node<T> build(SortedSource<T> source, int n) throws IOException {
+        if (n == 0) return null;
+        int leftCount = (n - 1) / 2;
+        Node<T> left = build(source, leftCount);
+        Node<T> node = new Node<>(source.next());
+        node.left = left;
+        node.right = build(source, n - 1 - leftCount);
+        updateHeight(node);
+        return node;
+    }
+
+    /** Snapshot elements, checked to be strictly increasing as they are read. */
+    private static final class SortedSource<T> {
+        private final SnapshotReader<T> reader;
+        private final Comparator<? super T> comparator;
+        private T previous;
+
+        SortedSource(SnapshotReader<T> reader, Comparator<? super T> comparator) {
+            this.reader = reader;
+            this.comparator = comparator;
+        }
+
+        T next() throws IOException {
+            T value = reader.next();
+            if (value == null) {
+                throw new IOException("snapshot contains a null element");
+            }
+            if (previous != null && comparator.compare(previous, value) >= 0) {
+                throw new IOException("snapshot elements are not in strictly increasing order");
+            }
+            previous = value;
+            return value;
+        }
+    }
+
     /** Helper method to perform in-order traversal */
     private void inOrder(Node<T> node, List<T> out) {
         if (node == null) return;
@@ -147,6 +273,7 @@ public class AVLTree<T> {
     }
 
     private Node<T> rotateRight(Node<T> y) {
+        if (metrics != null) metrics.increment(ROTATIONS);
         Node<T> x = y.left;
         Node<T> t2 = x.right;
 
@@ -162,6 +289,7 @@ public class AVLTree<T> {
     }
 
     private Node<T> rotateLeft(Node<T> x) {
+        if (metrics != null) metrics.increment(ROTATIONS);
         Node<T> y = x.right;
         Node<T> t2 = y.left;
 
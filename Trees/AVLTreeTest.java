@@ -1,10 +1,21 @@
 package com.sophiapriola.dstoolkit.tree;
 
+import com.sophiapriola.dstoolkit.codec.ElementCodec;
+import com.sophiapriola.dstoolkit.metrics.StructureMetrics;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -90,6 +101,62 @@ class AVLTreeTest {
 
         assertEquals(Arrays.asList(3, 2, 1), tree.inOrder());
     }
-}
 
+    @Test
+    void enableMetrics_countsRotationsAndTracksHeight() {
+        AVLTree<Integer> tree = new AVLTree<>(Comparator.naturalOrder());
+        StructureMetrics metrics = tree.enableMetrics();
+
+        for (int i = 1; i <= 7; i++) {
+            tree.insert(i); // sorted input: inserting 3, 5, 6 and 7 each triggers one rotation
+        }
+
+        Map<String, Long> snapshot = metrics.snapshot();
+        assertEquals(7L, snapshot.get("inserts"));
+        assertEquals(4L, snapshot.get("rotations"));
+        assertEquals(3L, snapshot.get("height"));
+        assertTrue(snapshot.get("comparisons") > 0);
 
+        metrics.reset();
+        assertEquals(0L, metrics.snapshot().get("rotations"));
+    }
+
+    @Test
+    void snapshot_roundTrip_rebuildsBalancedTree() throws IOException {
+        AVLTree<Integer> tree = new AVLTree<>(Comparator.naturalOrder());
+        for (int i = 0; i < 10_000; i++) {
+            tree.insert((i * 7919) % 10_000);
+        }
+        Path file = Files.createTempFile("avl", ".snap");
+        try {
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                tree.writeSnapshot(out, ElementCodec.INT);
+            }
+            AVLTree<Integer> copy;
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                copy = AVLTree.readSnapshot(in, ElementCodec.INT, Comparator.naturalOrder());
+            }
+            assertEquals(tree.size(), copy.size());
+            assertEquals(tree.inOrder(), copy.inOrder());
+            assertEquals(14, copy.height()); // ceil(log2(10_001)): perfectly balanced
+            copy.insert(10_000);
+            assertTrue(copy.contains(10_000));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readSnapshot_rejectsUnsortedElements() throws IOException {
+        AVLTree<Integer> tree = new AVLTree<>(Comparator.naturalOrder());
+        tree.insert(1);
+        tree.insert(2);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        tree.writeSnapshot(Channels.newChannel(bytes), ElementCodec.INT);
+
+        // reading with the opposite order sees 1 then 2 as decreasing
+        assertThrows(IOException.class, () -> AVLTree.readSnapshot(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())),
+                ElementCodec.INT, Comparator.reverseOrder()));
+    }
+}
@@ -0,0 +1,579 @@
+package com.sophiapriola.dstoolkit.tree;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adaptive radix tree (ART) holding a sorted set of byte-string keys.
+ * Each inner node branches on one key byte and picks the smallest of four
+ * layouts that fits its fan-out (4, 16, 48 or 256 children), growing and
+ * shrinking as children come and go. Runs of bytes shared by every key below
+ * a node are stored once in that node (path compression), so long common
+ * prefixes such as URL schemes or package names cost one array comparison
+ * instead of a comparator call per tree level.
+ *
+ * Lookups take O(k) time for a key of length k, independent of the number of
+ * keys. Keys are ordered by unsigned byte value, with a key sorting before
+ * any longer key it is a prefix of. String keys are stored as UTF-8, whose
+ * byte order is code point order; this matches String.compareTo except for
+ * characters outside the Basic Multilingual Plane. Every traversal is
+ * iterative.
+ *
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ */
+public class AdaptiveRadixTree {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /** Any node: either a leaf holding a whole key, or an inner node. */
+    private abstract static class Node {
+    }
+
+    /** Holds one complete key. */
+    private static final class Leaf extends Node {
+        final byte[] key;
+
+        Leaf(byte[] key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Branches on the key byte after its compressed prefix. A key that ends
+     * exactly at this node (a prefix of longer keys below) is kept in terminal.
+     * Children are addressed by "positions", which increase in key-byte order.
+     */
+    private abstract static class Inner extends Node {
+        byte[] prefix = EMPTY;
+        Leaf terminal;
+        int count; // number of children
+
+        /** Returns the child for key byte b (0-255), or null. */
+        abstract Node find(int b);
+
+        /** Adds a child for an absent byte b; returns this node or a larger copy. */
+        abstract Inner add(int b, Node child);
+
+        /** Replaces the existing child for byte b. */
+        abstract void replace(int b, Node child);
+
+        /** Removes the child for byte b; returns this node or a smaller copy. */
+        abstract Inner remove(int b);
+
+        /** Smallest position at or after from that holds a child, or -1. */
+        abstract int nextPosition(int from);
+
+        abstract Node childAt(int position);
+
+        abstract int byteAt(int position);
+
+        /** Moves prefix, terminal and every child of this node into target. */
+        Inner copyInto(Inner target) {
+            target.prefix = prefix;
+            target.terminal = terminal;
+            for (int p = nextPosition(0); p >= 0; p = nextPosition(p + 1)) {
+                target.add(byteAt(p), childAt(p));
+            }
+            return target;
+        }
+    }
+
+    /** Node4 and Node16: key bytes and children in parallel arrays, sorted by byte. */
+    private static final class SortedNode extends Inner {
+        final byte[] keys;
+        final Node[] children;
+
+        SortedNode(int capacity) {
+            keys = new byte[capacity];
+            children = new Node[capacity];
+        }
+
+        @Override
+        Node find(int b) {
+            for (int i = 0; i < count; i++) {
+                int k = keys[i] & 0xFF;
+                if (k == b) return children[i];
+                if (k > b) return null; // sorted: b cannot appear later
+            }
+            return null;
+        }
+
+        @Override
+        Inner add(int b, Node child) {
+            if (count == keys.length) {
+                Inner grown = copyInto(keys.length == 4 ? new SortedNode(16) : new Node48());
+                return grown.add(b, child);
+            }
+            int i = count;
+            while (i > 0 && (keys[i - 1] & 0xFF) > b) {
+                keys[i] = keys[i - 1];
+                children[i] = children[i - 1];
+                i--;
+            }
+            keys[i] = (byte) b;
+            children[i] = child;
+            count++;
+            return this;
+        }
+
+        @Override
+        void replace(int b, Node child) {
+            for (int i = 0; i < count; i++) {
+                if ((keys[i] & 0xFF) == b) {
+                    children[i] = child;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        Inner remove(int b) {
+            int i = 0;
+            while (i < count && (keys[i] & 0xFF) != b) i++;
+            if (i == count) return this;
+            System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+            System.arraycopy(children, i + 1, children, i, count - i - 1);
+            children[--count] = null;
+            if (keys.length == 16 && count <= 3) {
+                return copyInto(new SortedNode(4));
+            }
+            return this;
+        }
+
+        @Override
+        int nextPosition(int from) {
+            return (from < count) ? from : -1;
+        }
+
+        @Override
+        Node childAt(int position) {
+            return children[position];
+        }
+
+        @Override
+        int byteAt(int position) {
+            return keys[position] & 0xFF;
+        }
+    }
+
+    /** Up to 48 children behind a 256-entry byte index (slot + 1, 0 = empty). */
+    private static final class Node48 extends Inner {
+        final byte[] index = new byte[256];
+        final Node[] children = new Node[48];
+
+        @Override
+        Node find(int b) {
+            int slot = index[b];
+            return (slot == 0) ? null : children[slot - 1];
+        }
+
+        @Override
+        Inner add(int b, Node child) {
+            if (count == children.length) {
+                return copyInto(new Node256()).add(b, child);
+            }
+            int slot = 0;
+            while (children[slot] != null) slot++;
+            children[slot] = child;
+            index[b] = (byte) (slot + 1);
+            count++;
+            return this;
+        }
+
+        @Override
+        void replace(int b, Node child) {
+            children[index[b] - 1] = child;
+        }
+
+        @Override
+        Inner remove(int b) {
+            int slot = index[b];
+            if (slot == 0) return this;
+            children[slot - 1] = null;
+            index[b] = 0;
+            count--;
+            if (count <= 12) {
+                return copyInto(new SortedNode(16));
+            }
+            return this;
+        }
+
+        @Override
+        int nextPosition(int from) {
+            for (int b = from; b < 256; b++) {
+                if (index[b] != 0) return b;
+            }
+            return -1;
+        }
+
+        @Override
+        Node childAt(int position) {
+            return children[index[position] - 1];
+        }
+
+        @Override
+        int byteAt(int position) {
+            return position;
+        }
+    }
+
+    /** One child slot per possible byte. */
+    private static final class Node256 extends Inner {
+        final Node[] children = new Node[256];
+
+        @Override
+        Node find(int b) {
+            return children[b];
+        }
+
+        @Override
+        Inner add(int b, Node child) {
+            children[b] = child;
+            count++;
+            return this;
+        }
+
+        @Override
+        void replace(int b, Node child) {
+            children[b] = child;
+        }
+
+        @Override
+        Inner remove(int b) {
+            if (children[b] == null) return this;
+            children[b] = null;
+            count--;
+            if (count <= 37) {
+                return copyInto(new Node48());
+            }
+            return this;
+        }
+
+        @Override
+        int nextPosition(int from) {
+            for (int b = from; b < 256; b++) {
+                if (children[b] != null) return b;
+            }
+            return -1;
+        }
+
+        @Override
+        Node childAt(int position) {
+            return children[position];
+        }
+
+        @Override
+        int byteAt(int position) {
+            return position;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    /** Returns the number of keys in the tree */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the tree is empty */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns true if key is in the tree. */
+    public boolean contains(byte[] key) {
+        checkKey(key);
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            if (node instanceof Leaf) {
+                return Arrays.equals(((Leaf) node).key, key);
+            }
+            Inner inner = (Inner) node;
+            if (matchPrefix(inner, key, depth) != inner.prefix.length) return false;
+            depth += inner.prefix.length;
+            if (depth == key.length) return inner.terminal != null;
+            node = inner.find(key[depth] & 0xFF);
+            depth++;
+        }
+        return false;
+    }
+
+    /** Returns true if key (as UTF-8) is in the tree. */
+    public boolean contains(String key) {
+        return contains(encode(key));
+    }
+
+    /** Inserts key into the tree. Duplicate keys are ignored (no-op). The array is copied. */
+    public void insert(byte[] key) {
+        checkKey(key);
+        key = key.clone();
+        if (root == null) {
+            root = new Leaf(key);
+            size++;
+            return;
+        }
+
+        Inner parent = null;
+        int parentByte = 0;
+        Node node = root;
+        int depth = 0;
+        while (true) {
+            if (node instanceof Leaf) {
+                Leaf leaf = (Leaf) node;
+                if (Arrays.equals(leaf.key, key)) return; // duplicate: do nothing
+                // split the leaf: a new node holds the bytes both keys share from here on
+                int common = depth;
+                int limit = Math.min(leaf.key.length, key.length);
+                while (common < limit && leaf.key[common] == key[common]) common++;
+                Inner split = new SortedNode(4);
+                split.prefix = Arrays.copyOfRange(key, depth, common);
+                attach(split, leaf, common);
+                attach(split, new Leaf(key), common);
+                replaceChild(parent, parentByte, split);
+                break;
+            }
+
+            Inner inner = (Inner) node;
+            int matched = matchPrefix(inner, key, depth);
+            if (matched < inner.prefix.length) {
+                // key leaves the compressed path part-way: split the prefix
+                Inner split = new SortedNode(4);
+                split.prefix = Arrays.copyOfRange(inner.prefix, 0, matched);
+                int branch = inner.prefix[matched] & 0xFF;
+                inner.prefix = Arrays.copyOfRange(inner.prefix, matched + 1, inner.prefix.length);
+                split.add(branch, inner);
+                attach(split, new Leaf(key), depth + matched);
+                replaceChild(parent, parentByte, split);
+                break;
+            }
+
+            depth += matched;
+            if (depth == key.length) {
+                if (inner.terminal != null) return; // duplicate: do nothing
+                inner.terminal = new Leaf(key);
+                break;
+            }
+            int b = key[depth] & 0xFF;
+            Node child = inner.find(b);
+            if (child == null) {
+                Inner grown = inner.add(b, new Leaf(key));
+                if (grown != inner) replaceChild(parent, parentByte, grown);
+                break;
+            }
+            parent = inner;
+            parentByte = b;
+            node = child;
+            depth++;
+        }
+        size++;
+    }
+
+    /** Inserts key (as UTF-8) into the tree. Duplicate keys are ignored (no-op). */
+    public void insert(String key) {
+        insert(encode(key));
+    }
+
+    /** Removes key from the tree. Returns true if it was present. */
+    public boolean remove(byte[] key) {
+        checkKey(key);
+        Inner grandparent = null;
+        int grandparentByte = 0;
+        Inner parent = null;
+        int parentByte = 0;
+        Node node = root;
+        int depth = 0;
+
+        while (node != null) {
+            if (node instanceof Leaf) {
+                if (!Arrays.equals(((Leaf) node).key, key)) return false;
+                if (parent == null) {
+                    root = null;
+                } else {
+                    replaceChild(grandparent, grandparentByte, collapse(parent.remove(parentByte)));
+                }
+                size--;
+                return true;
+            }
+
+            Inner inner = (Inner) node;
+            if (matchPrefix(inner, key, depth) != inner.prefix.length) return false;
+            depth += inner.prefix.length;
+            if (depth == key.length) {
+                if (inner.terminal == null) return false;
+                inner.terminal = null;
+                replaceChild(parent, parentByte, collapse(inner));
+                size--;
+                return true;
+            }
+            int b = key[depth] & 0xFF;
+            grandparent = parent;
+            grandparentByte = parentByte;
+            parent = inner;
+            parentByte = b;
+            node = inner.find(b);
+            depth++;
+        }
+        return false;
+    }
+
+    /** Removes key (as UTF-8) from the tree. Returns true if it was present. */
+    public boolean remove(String key) {
+        return remove(encode(key));
+    }
+
+    /** Calls action with a copy of every key, in ascending order. */
+    public void forEach(Consumer<byte[]> action) {
+        if (action == null) throw new IllegalArgumentException("action cannot be null");
+        if (root != null) walk(root, action);
+    }
+
+    /** Calls action with a copy of every key that starts with prefix, in ascending order. */
+    public void forEachWithPrefix(byte[] prefix, Consumer<byte[]> action) {
+        checkKey(prefix);
+        if (action == null) throw new IllegalArgumentException("action cannot be null");
+
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            if (node instanceof Leaf) {
+                byte[] key = ((Leaf) node).key;
+                if (key.length >= prefix.length
+                        && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length)) {
+                    action.accept(key.clone());
+                }
+                return;
+            }
+            Inner inner = (Inner) node;
+            // compare only the part of the node's prefix that overlaps the search prefix
+            int overlap = Math.min(inner.prefix.length, prefix.length - depth);
+            if (!Arrays.equals(inner.prefix, 0, overlap, prefix, depth, depth + overlap)) return;
+            depth += inner.prefix.length;
+            if (depth >= prefix.length) {
+                walk(inner, action); // every key below shares the search prefix
+                return;
+            }
+            node = inner.find(prefix[depth] & 0xFF);
+            depth++;
+        }
+    }
+
+    /** Returns every key that starts with prefix (both as UTF-8), in ascending order. */
+    public List<String> keysWithPrefix(String prefix) {
+        List<String> out = new ArrayList<>();
+        forEachWithPrefix(encode(prefix), key -> out.add(new String(key, StandardCharsets.UTF_8)));
+        return out;
+    }
+
+    /** Returns every key in ascending order. */
+    public List<byte[]> inOrder() {
+        List<byte[]> out = new ArrayList<>(size);
+        forEach(out::add);
+        return out;
+    }
+
+    /**
+     * Helper method to visit every key below start in order, using an explicit
+     * stack of (node, next position) frames. A node's terminal key comes before
+     * its children because it is a prefix of all of them.
+     */
+    private void walk(Node start, Consumer<byte[]> action) {
+        if (start instanceof Leaf) {
+            action.accept(((Leaf) start).key.clone());
+            return;
+        }
+        ArrayDeque<Inner> nodes = new ArrayDeque<>();
+        ArrayDeque<int[]> positions = new ArrayDeque<>();
+        nodes.push((Inner) start);
+        positions.push(new int[] {-1});
+        while (!nodes.isEmpty()) {
+            Inner inner = nodes.peek();
+            int[] pos = positions.peek();
+            if (pos[0] < 0) {
+                pos[0] = 0;
+                if (inner.terminal != null) action.accept(inner.terminal.key.clone());
+                continue;
+            }
+            int p = inner.nextPosition(pos[0]);
+            if (p < 0) {
+                nodes.pop();
+                positions.pop();
+                continue;
+            }
+            pos[0] = p + 1;
+            Node child = inner.childAt(p);
+            if (child instanceof Leaf) {
+                action.accept(((Leaf) child).key.clone());
+            } else {
+                nodes.push((Inner) child);
+                positions.push(new int[] {-1});
+            }
+        }
+    }
+
+    /** Helper method to hang a leaf under node, which covers key bytes [0, depth). */
+    private static void attach(Inner node, Leaf leaf, int depth) {
+        if (leaf.key.length == depth) {
+            node.terminal = leaf;
+        } else {
+            node.add(leaf.key[depth] & 0xFF, leaf);
+        }
+    }
+
+    /**
+     * Helper method to restore path compression after a removal: a node left
+     * with a single key or child is replaced by that key or child.
+     */
+    private static Node collapse(Inner node) {
+        if (node.count == 0) {
+            return node.terminal; // only the terminal key is left
+        }
+        if (node.count > 1 || node.terminal != null) {
+            return node;
+        }
+        int p = node.nextPosition(0);
+        Node child = node.childAt(p);
+        if (child instanceof Inner) {
+            // fold this node's prefix and branch byte into the child's prefix
+            Inner inner = (Inner) child;
+            byte[] merged = new byte[node.prefix.length + 1 + inner.prefix.length];
+            System.arraycopy(node.prefix, 0, merged, 0, node.prefix.length);
+            merged[node.prefix.length] = (byte) node.byteAt(p);
+            System.arraycopy(inner.prefix, 0, merged, node.prefix.length + 1, inner.prefix.length);
+            inner.prefix = merged;
+        }
+        return child; // a leaf already stores its whole key
+    }
+
+    private void replaceChild(Inner parent, int b, Node child) {
+        if (parent == null) {
+            root = child;
+        } else {
+            parent.replace(b, child);
+        }
+    }
+
+    /** Number of leading bytes of node's prefix that match key from depth on. */
+    private static int matchPrefix(Inner node, byte[] key, int depth) {
+        byte[] prefix = node.prefix;
+        int limit = Math.min(prefix.length, key.length - depth);
+        int i = 0;
+        while (i < limit && prefix[i] == key[depth + i]) i++;
+        return i;
+    }
+
+    private static void checkKey(byte[] key) {
+        if (key == null) throw new IllegalArgumentException("key cannot be null");
+    }
+
+    private static byte[] encode(String key) {
+        if (key == null) throw new IllegalArgumentException("key cannot be null");
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
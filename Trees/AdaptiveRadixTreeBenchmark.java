@@ -0,0 +1,113 @@
+package com.sophiapriola.dstoolkit.tree;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Simple timing harness comparing inserts and lookups of string keys with
+ * long shared prefixes in an AdaptiveRadixTree, an AVLTree and a TreeMap.
+ * Two synthetic datasets are used: URLs (few hosts, deep paths) and Java-style
+ * qualified identifiers (few packages, many members). The radix tree is timed
+ * both with String keys, which pay a UTF-8 encoding per call, and with
+ * pre-encoded byte[] keys.
+ * Run with: java AdaptiveRadixTreeBenchmark [keys]
+ *
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ */
+public class AdaptiveRadixTreeBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 500_000;
+        run("urls", urls(n, new Random(1)));
+        run("identifiers", identifiers(n, new Random(2)));
+    }
+
+    private static void run(String dataset, List<String> keys) {
+        // look keys up in a different order from the one they were inserted in
+        List<String> queries = new ArrayList<>(keys);
+        Collections.shuffle(queries, new Random(3));
+        byte[][] encoded = new byte[queries.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = queries.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean report = round == ROUNDS - 1; // earlier rounds are JIT warm-up
+
+            long t0 = System.nanoTime();
+            AdaptiveRadixTree art = new AdaptiveRadixTree();
+            for (String k : keys) art.insert(k);
+            long t1 = System.nanoTime();
+            AVLTree<String> avl = new AVLTree<>(Comparator.naturalOrder());
+            for (String k : keys) avl.insert(k);
+            long t2 = System.nanoTime();
+            TreeMap<String, Boolean> treeMap = new TreeMap<>();
+            for (String k : keys) treeMap.put(k, Boolean.TRUE);
+            long t3 = System.nanoTime();
+
+            int hits = 0;
+            long l0 = System.nanoTime();
+            for (String q : queries) if (art.contains(q)) hits++;
+            long l1 = System.nanoTime();
+            for (byte[] q : encoded) if (art.contains(q)) hits++;
+            long l2 = System.nanoTime();
+            for (String q : queries) if (avl.contains(q)) hits++;
+            long l3 = System.nanoTime();
+            for (String q : queries) if (treeMap.containsKey(q)) hits++;
+            long l4 = System.nanoTime();
+
+            if (report) {
+                double count = keys.size();
+                System.out.printf("%s: %d keys, avg length %.1f (%d hits)%n",
+                        dataset, keys.size(), averageLength(keys), hits);
+                System.out.printf("ART          insert %6.1f ns  lookup %6.1f ns%n",
+                        (t1 - t0) / count, (l1 - l0) / count);
+                System.out.printf("ART (byte[])                  lookup %6.1f ns%n", (l2 - l1) / count);
+                System.out.printf("AVLTree      insert %6.1f ns  lookup %6.1f ns%n",
+                        (t2 - t1) / count, (l3 - l2) / count);
+                System.out.printf("TreeMap      insert %6.1f ns  lookup %6.1f ns%n",
+                        (t3 - t2) / count, (l4 - l3) / count);
+            }
+        }
+    }
+
+    /** URLs over a handful of hosts with several path levels, e.g. https://www.shop-3.example.com/catalog/... */
+    private static List<String> urls(int n, Random rnd) {
+        String[] sections = {"catalog", "account", "search", "static/assets", "api/v2/items"};
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add("https://www.shop-" + rnd.nextInt(8) + ".example.com/"
+                    + sections[rnd.nextInt(sections.length)] + "/" + rnd.nextInt(1000)
+                    + "/item-" + i + "?ref=campaign-" + rnd.nextInt(50));
+        }
+        return out;
+    }
+
+    /** Qualified member names such as com.example.billing.service.InvoiceService7#computeTotal12 */
+    private static List<String> identifiers(int n, Random rnd) {
+        String[] modules = {"billing", "billing.service", "inventory", "inventory.model", "shipping.api"};
+        String[] types = {"InvoiceService", "LedgerEntry", "StockLevel", "WarehouseRepository", "Shipment"};
+        String[] members = {"compute", "findBy", "update", "validate", "toString"};
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add("com.example.enterprise." + modules[rnd.nextInt(modules.length)] + "."
+                    + types[rnd.nextInt(types.length)] + rnd.nextInt(200) + "#"
+                    + members[rnd.nextInt(members.length)] + i);
+        }
+        return out;
+    }
+
+    private static double averageLength(List<String> keys) {
+        long total = 0;
+        for (String k : keys) total += k.length();
+        return total / (double) keys.size();
+    }
+}
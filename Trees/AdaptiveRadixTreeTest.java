@@ -0,0 +1,140 @@
+package com.sophiapriola.dstoolkit.tree;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveRadixTree.
+ *
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ */
+class AdaptiveRadixTreeTest {
+
+    @Test
+    void newTree_startsEmpty() {
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.size());
+        assertFalse(tree.contains("a"));
+        assertFalse(tree.remove("a"));
+        assertEquals(List.of(), tree.keysWithPrefix(""));
+    }
+
+    @Test
+    void nullKeys_throw() {
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        assertThrows(IllegalArgumentException.class, () -> tree.insert((String) null));
+        assertThrows(IllegalArgumentException.class, () -> tree.contains((byte[]) null));
+        assertThrows(IllegalArgumentException.class, () -> tree.remove((String) null));
+        assertThrows(IllegalArgumentException.class, () -> tree.forEach(null));
+    }
+
+    @Test
+    void keysThatArePrefixesOfOthers_areKeptApart() {
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        for (String k : new String[] {"abc", "ab", "", "abcd", "a", "abd"}) {
+            tree.insert(k);
+        }
+        tree.insert("ab"); // duplicate ignored
+        assertEquals(6, tree.size());
+        assertEquals(List.of("", "a", "ab", "abc", "abcd", "abd"), tree.keysWithPrefix(""));
+        assertFalse(tree.contains("abcde"));
+        assertFalse(tree.contains("b"));
+
+        assertTrue(tree.remove("ab"));
+        assertFalse(tree.contains("ab"));
+        assertTrue(tree.contains("abc"));
+        assertTrue(tree.remove(""));
+        assertEquals(List.of("a", "abc", "abcd", "abd"), tree.keysWithPrefix(""));
+    }
+
+    @Test
+    void prefixScan_returnsMatchingKeysInOrder() {
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        for (String k : new String[] {"https://a.com/x", "https://a.com/y", "https://b.org/",
+                "http://a.com/", "ftp://a"}) {
+            tree.insert(k);
+        }
+        assertEquals(List.of("https://a.com/x", "https://a.com/y"), tree.keysWithPrefix("https://a.c"));
+        assertEquals(List.of("http://a.com/", "https://a.com/x", "https://a.com/y", "https://b.org/"),
+                tree.keysWithPrefix("http"));
+        assertEquals(List.of("https://b.org/"), tree.keysWithPrefix("https://b.org/"));
+        assertEquals(List.of(), tree.keysWithPrefix("https://c"));
+        assertEquals(List.of(), tree.keysWithPrefix("https://b.org/more"));
+    }
+
+    @Test
+    void bytesAreOrderedUnsigned_andNodesGrowThroughEverySize() {
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        for (int b = 255; b >= 0; b--) {
+            tree.insert(new byte[] {7, (byte) b}); // one node fanning out to 256 children
+        }
+        assertEquals(256, tree.size());
+        List<byte[]> keys = tree.inOrder();
+        for (int b = 0; b < 256; b++) {
+            assertEquals(b, keys.get(b)[1] & 0xFF);
+        }
+
+        for (int b = 0; b < 256; b += 2) {
+            assertTrue(tree.remove(new byte[] {7, (byte) b})); // shrinks back down
+        }
+        for (int b = 0; b < 256; b++) {
+            assertEquals(b % 2 == 1, tree.contains(new byte[] {7, (byte) b}));
+        }
+    }
+
+    @Test
+    void insertedKeysAreCopied() {
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+        tree.insert(key);
+        key[0] = 'x';
+        assertTrue(tree.contains("key"));
+        tree.inOrder().get(0)[0] = 'y';
+        assertTrue(tree.contains("key"));
+    }
+
+    @Test
+    void randomOperations_matchTreeSet() {
+        Random random = new Random(42);
+        AdaptiveRadixTree tree = new AdaptiveRadixTree();
+        TreeSet<String> expected = new TreeSet<>();
+        String alphabet = "abcdefghijklmnopqrstuvwxyz0123456789/._";
+
+        for (int i = 0; i < 50_000; i++) {
+            // short keys over a small alphabet share many prefixes and hit every node size
+            int length = random.nextInt(6);
+            StringBuilder sb = new StringBuilder(random.nextBoolean() ? "prefix/" : "");
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(random.nextBoolean() ? 3 : alphabet.length())));
+            }
+            String key = sb.toString();
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), tree.remove(key), key);
+            } else {
+                expected.add(key);
+                tree.insert(key);
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+
+        for (String k : expected) {
+            assertTrue(tree.contains(k), k);
+        }
+        assertEquals(new ArrayList<>(expected), tree.keysWithPrefix(""));
+        assertEquals(new ArrayList<>(expected.subSet("prefix/a", "prefix/b")), tree.keysWithPrefix("prefix/a"));
+
+        for (String k : new ArrayList<>(expected)) {
+            assertTrue(tree.remove(k));
+        }
+        assertTrue(tree.isEmpty());
+    }
+}
@@ -0,0 +1,307 @@
+package com.sophiapriola.dstoolkit.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Generic unbalanced Binary Search Tree.
+ * Every operation is iterative, so even a fully degenerate tree (e.g. built
+ * from sorted input) cannot overflow the call stack.
+ *
+ * In self-adjusting (splay) mode, contains, insert and delete use top-down
+ * splaying to move the accessed key to the root. Hot keys then stay near the
+ * top, giving amortized O(log n) operations and much shorter paths than a
+ * balanced tree on heavily skewed access patterns. Note that in this mode
+ * contains also reshapes the tree.
+ *
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ */
+public class BinarySearchTree<T> {
+
+    private static class Node<T> {
+        T data;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T data) {
+            this.data = data;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+    private final Comparator<? super T> comparator;
+    private final boolean splay;
+
+    /** Creates a plain (non-splaying) tree ordered by comparator. */
+    public BinarySearchTree(Comparator<? super T> comparator) {
+        this(comparator, false);
+    }
+
+    /** Creates a tree ordered by comparator; splay turns on self-adjusting mode. */
+    public BinarySearchTree(Comparator<? super T> comparator, boolean splay) {
+        if (comparator == null) throw new IllegalArgumentException("Comparator cannot be null");
+        this.comparator = comparator;
+        this.splay = splay;
+    }
+
+    /** Returns the number of elements in the tree */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the tree is empty */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns true if this tree splays accessed keys to the root. */
+    public boolean isSplaying() {
+        return splay;
+    }
+
+    /** Height of the tree (0 if empty), computed level by level. */
+    public int height() {
+        if (root == null) return 0;
+        ArrayDeque<Node<T>> level = new ArrayDeque<>();
+        level.add(root);
+        int height = 0;
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                Node<T> node = level.poll();
+                if (node.left != null) level.add(node.left);
+                if (node.right != null) level.add(node.right);
+            }
+        }
+        return height;
+    }
+
+    /** Returns true if value exists in the tree. */
+    public boolean contains(T value) {
+        if (value == null) throw new IllegalArgumentException("value cannot be null");
+        if (splay) {
+            if (root == null) return false;
+            root = splay(root, value);
+            return comparator.compare(value, root.data) == 0;
+        }
+        Node<T> cur = root;
+        while (cur != null) {
+            int cmp = comparator.compare(value, cur.data);
+            if (cmp == 0) return true;
+            cur = (cmp < 0) ? cur.left : cur.right;
+        }
+        return false;
+    }
+
+    /** Inserts value into the tree. Duplicate values are ignored (no-op). */
+    public void insert(T value) {
+        if (value == null) throw new IllegalArgumentException("value cannot be null");
+        if (splay) {
+            splayInsert(value);
+            return;
+        }
+        if (root == null) {
+            root = new Node<>(value);
+            size++;
+            return;
+        }
+        Node<T> cur = root;
+        while (true) {
+            int cmp = comparator.compare(value, cur.data);
+            if (cmp == 0) return; // duplicate: do nothing
+            if (cmp < 0) {
+                if (cur.left == null) {
+                    cur.left = new Node<>(value);
+                    break;
+                }
+                cur = cur.left;
+            } else {
+                if (cur.right == null) {
+                    cur.right = new Node<>(value);
+                    break;
+                }
+                cur = cur.right;
+            }
+        }
+        size++;
+    }
+
+    /** Removes value from the tree. Returns true if it was present. */
+    public boolean delete(T value) {
+        if (value == null) throw new IllegalArgumentException("value cannot be null");
+        if (splay) {
+            return splayDelete(value);
+        }
+
+        Node<T> parent = null;
+        Node<T> cur = root;
+        int cmp;
+        while (cur != null && (cmp = comparator.compare(value, cur.data)) != 0) {
+            parent = cur;
+            cur = (cmp < 0) ? cur.left : cur.right;
+        }
+        if (cur == null) return false;
+
+        // two children: replace with in-order successor, then remove the successor instead
+        if (cur.left != null && cur.right != null) {
+            Node<T> succParent = cur;
+            Node<T> succ = cur.right;
+            while (succ.left != null) {
+                succParent = succ;
+                succ = succ.left;
+            }
+            cur.data = succ.data;
+            parent = succParent;
+            cur = succ;
+        }
+
+        Node<T> child = (cur.left != null) ? cur.left : cur.right;
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == cur) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+        size--;
+        return true;
+    }
+
+    /** Returns the smallest element. */
+    public T min() {
+        if (root == null) throw new NoSuchElementException("Tree is empty");
+        Node<T> cur = root;
+        while (cur.left != null) cur = cur.left;
+        return cur.data;
+    }
+
+    /** Returns the largest element. */
+    public T max() {
+        if (root == null) throw new NoSuchElementException("Tree is empty");
+        Node<T> cur = root;
+        while (cur.right != null) cur = cur.right;
+        return cur.data;
+    }
+
+    /** Returns an in-order traversal (sorted by comparator). */
+    public List<T> inOrder() {
+        List<T> out = new ArrayList<>(size);
+        ArrayDeque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> cur = root;
+        while (cur != null || !stack.isEmpty()) {
+            while (cur != null) {
+                stack.push(cur);
+                cur = cur.left;
+            }
+            cur = stack.pop();
+            out.add(cur.data);
+            cur = cur.right;
+        }
+        return out;
+    }
+
+    /** Helper method to insert in splay mode: splay, then split around the new root. */
+    private void splayInsert(T value) {
+        if (root == null) {
+            root = new Node<>(value);
+            size++;
+            return;
+        }
+        root = splay(root, value);
+        int cmp = comparator.compare(value, root.data);
+        if (cmp == 0) return; // duplicate: do nothing
+
+        Node<T> node = new Node<>(value);
+        if (cmp < 0) {
+            node.left = root.left;
+            node.right = root;
+            root.left = null;
+        } else {
+            node.right = root.right;
+            node.left = root;
+            root.right = null;
+        }
+        root = node;
+        size++;
+    }
+
+    /** Helper method to delete in splay mode: splay value up, then join its subtrees. */
+    private boolean splayDelete(T value) {
+        if (root == null) return false;
+        root = splay(root, value);
+        if (comparator.compare(value, root.data) != 0) return false;
+
+        if (root.left == null) {
+            root = root.right;
+        } else {
+            Node<T> right = root.right;
+            // value is larger than everything on the left, so this brings the left maximum up
+            root = splay(root.left, value);
+            root.right = right;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Top-down splay: walks from t towards value, rotating zig-zig steps and
+     * hanging passed nodes onto left/right assembly trees, so the last node
+     * visited becomes the new root. Runs in one iterative pass.
+     */
+    private Node<T> splay(Node<T> t, T value) {
+        Node<T> header = new Node<>(null);
+        Node<T> leftMax = header;  // largest node of the assembled "less than" tree
+        Node<T> rightMin = header; // smallest node of the assembled "greater than" tree
+
+        while (true) {
+            int cmp = comparator.compare(value, t.data);
+            if (cmp < 0) {
+                if (t.left == null) break;
+                if (comparator.compare(value, t.left.data) < 0) {
+                    t = rotateRight(t); // zig-zig
+                    if (t.left == null) break;
+                }
+                rightMin.left = t; // link right
+                rightMin = t;
+                t = t.left;
+            } else if (cmp > 0) {
+                if (t.right == null) break;
+                if (comparator.compare(value, t.right.data) > 0) {
+                    t = rotateLeft(t); // zig-zig
+                    if (t.right == null) break;
+                }
+                leftMax.right = t; // link left
+                leftMax = t;
+                t = t.right;
+            } else {
+                break;
+            }
+        }
+
+        // reassemble
+        leftMax.right = t.left;
+        rightMin.left = t.right;
+        t.left = header.right;
+        t.right = header.left;
+        return t;
+    }
+
+    private Node<T> rotateRight(Node<T> y) {
+        Node<T> x = y.left;
+        y.left = x.right;
+        x.right = y;
+        return x;
+    }
+
+    private Node<T> rotateLeft(Node<T> x) {
+        Node<T> y = x.right;
+        x.right = y.left;
+        y.left = x;
+        return y;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sophiapriola.dstoolkit.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Simple timing harness comparing lookups in a plain BinarySearchTree, a
+ * splaying BinarySearchTree and an AVLTree when keys are requested with a
+ * Zipfian (heavily skewed) distribution. Keys are inserted in random order.
+ * Run with: java BinarySearchTreeBenchmark [keys] [lookups] [zipfExponent]
+ *
+ * @author Sophia Priola
+ * @version 19 Oct 2026
+ */
+public class BinarySearchTreeBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        int lookups = (args.length > 1) ? Integer.parseInt(args[1]) : 2_000_000;
+        double s = (args.length > 2) ? Double.parseDouble(args[2]) : 1.1;
+
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < n; i++) keys.add(i);
+        Collections.shuffle(keys, new Random(1));
+
+        // rank r (0 = hottest) is mapped to a random key so hot keys are spread across the tree
+        Integer[] queries = new Integer[lookups];
+        int[] ranks = zipfRanks(n, lookups, s, new Random(2));
+        for (int i = 0; i < lookups; i++) queries[i] = keys.get(ranks[i]);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean report = round == ROUNDS - 1; // earlier rounds are JIT warm-up
+
+            BinarySearchTree<Integer> plain = new BinarySearchTree<>(Comparator.naturalOrder());
+            BinarySearchTree<Integer> splay = new BinarySearchTree<>(Comparator.naturalOrder(), true);
+            AVLTree<Integer> avl = new AVLTree<>(Comparator.naturalOrder());
+            for (Integer k : keys) {
+                plain.insert(k);
+                splay.insert(k);
+                avl.insert(k);
+            }
+
+            long t0 = System.nanoTime();
+            int hits = 0;
+            for (Integer q : queries) if (plain.contains(q)) hits++;
+            long t1 = System.nanoTime();
+            for (Integer q : queries) if (splay.contains(q)) hits++;
+            long t2 = System.nanoTime();
+            for (Integer q : queries) if (avl.contains(q)) hits++;
+            long t3 = System.nanoTime();
+
+            if (report) {
+                System.out.printf("zipf s=%.2f, %d keys, %d lookups (%d hits)%n", s, n, lookups, hits);
+                System.out.printf("BST plain  %6.1f ns/lookup%n", (t1 - t0) / (double) lookups);
+                System.out.printf("BST splay  %6.1f ns/lookup%n", (t2 - t1) / (double) lookups);
+                System.out.printf("AVLTree    %6.1f ns/lookup%n", (t3 - t2) / (double) lookups);
+            }
+        }
+    }
+
+    /** Draws count ranks in [0, n) where rank r has probability proportional to 1 / (r + 1)^s. */
+    private static int[] zipfRanks(int n, int count, double s, Random rnd) {
+        double[] cdf = new double[n];
+        double total = 0;
+        for (int r = 0; r < n; r++) {
+            total += 1.0 / Math.pow(r + 1, s);
+            cdf[r] = total;
+        }
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) {
+            double u = rnd.nextDouble() * total;
+            int lo = 0;
+            int hi = n - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cdf[mid] < u) lo = mid + 1;
+                else hi = mid;
+            }
+            out[i] = lo;
+        }
+        return out;
+    }
+}
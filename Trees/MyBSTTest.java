@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -104,4 +105,80 @@ class MyBSTTest {
         assertEquals(Arrays.asList(3, 2, 1), tree.inOrder());
         assertTrue(tree.contains(2));
     }
+
+    @Test
+    void delete_leafInternalAndRoot_keepsOrder() {
+        for (boolean splay : new boolean[] {false, true}) {
+            BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder(), splay);
+            int[] values = {10, 5, 20, 3, 7, 15, 30};
+            for (int v : values) tree.insert(v);
+
+            assertTrue(tree.delete(3));   // leaf
+            assertTrue(tree.delete(20));  // two children
+            assertTrue(tree.delete(10));  // root
+            assertFalse(tree.delete(99)); // absent
+
+            assertEquals(4, tree.size());
+            assertEquals(Arrays.asList(5, 7, 15, 30), tree.inOrder());
+            assertFalse(tree.contains(10));
+        }
+    }
+
+    @Test
+    void delete_nullValue_throws() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder());
+        assertThrows(IllegalArgumentException.class, () -> tree.delete(null));
+    }
+
+    @Test
+    void sortedInput_buildsDegenerateTree_withoutStackOverflow() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder());
+        int n = 20_000;
+        for (int i = 0; i < n; i++) tree.insert(i);
+
+        assertEquals(n, tree.height());
+        assertTrue(tree.contains(n - 1));
+        assertEquals(n, tree.inOrder().size());
+        for (int i = 0; i < n; i += 2) assertTrue(tree.delete(i));
+        assertEquals(n / 2, tree.size());
+    }
+
+    @Test
+    void splayMode_movesAccessedKeyToRoot() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>(Comparator.naturalOrder(), true);
+        assertTrue(tree.isSplaying());
+        tree.insert(1);
+        tree.insert(2);
+        tree.insert(3); // each insert becomes the root: a chain 3 -> 2 -> 1
+        assertEquals(3, tree.height());
+
+        assertTrue(tree.contains(2)); // 2 becomes the root with 1 and 3 as children
+        assertEquals(2, tree.height());
+        assertEquals(Arrays.asList(1, 2, 3), tree.inOrder());
+    }
+
+    @Test
+    void splayMode_matchesPlainMode_onRandomOperations() {
+        BinarySearchTree<Integer> plain = new BinarySearchTree<>(Comparator.naturalOrder());
+        BinarySearchTree<Integer> splay = new BinarySearchTree<>(Comparator.naturalOrder(), true);
+        Random rnd = new Random(32);
+
+        for (int step = 0; step < 20_000; step++) {
+            int v = rnd.nextInt(500);
+            switch (rnd.nextInt(3)) {
+                case 0 -> {
+                    plain.insert(v);
+                    splay.insert(v);
+                }
+                case 1 -> assertEquals(plain.delete(v), splay.delete(v));
+                default -> assertEquals(plain.contains(v), splay.contains(v));
+            }
+        }
+        assertEquals(plain.size(), splay.size());
+        assertEquals(plain.inOrder(), splay.inOrder());
+        if (!plain.isEmpty()) {
+            assertEquals(plain.min(), splay.min());
+            assertEquals(plain.max(), splay.max());
+        }
+    }
 }